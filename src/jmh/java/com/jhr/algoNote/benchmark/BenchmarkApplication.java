@@ -0,0 +1,39 @@
+package com.jhr.algoNote.benchmark;
+
+import com.jhr.algoNote.AlgoNoteApplication;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ * <p>
+ * 컨텍스트마다 새 내장 H2 메모리 DB 를 flyway 로 마이그레이션해서 사용한다. SQL 로그, 세션 저장소는 끈다.
+ */
+public final class BenchmarkApplication {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        //application.yml 보다 우선하도록 커맨드라인 인자로 전달
+        return new SpringApplicationBuilder(AlgoNoteApplication.class)
+            .logStartupInfo(false)
+            .run("--spring.datasource.url=jdbc:h2:mem:benchmark" + DATABASES.incrementAndGet()
+                    + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.session.store-type=none",
+                "--server.port=0",
+                "--decorator.datasource.p6spy.enable-logging=false",
+                "--logging.level.root=warn",
+                "--logging.level.org.hibernate.sql=warn",
+                "--logging.level.org.hibernate.SQL=warn",
+                "--spring.security.oauth2.client.registration.google.client-id=benchmark",
+                "--spring.security.oauth2.client.registration.google.client-secret=benchmark",
+                "--spring.security.oauth2.client.registration.google.scope=profile,email");
+    }
+}
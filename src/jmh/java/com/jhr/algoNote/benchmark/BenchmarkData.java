@@ -0,0 +1,45 @@
+package com.jhr.algoNote.benchmark;
+
+import com.jhr.algoNote.domain.Member;
+import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.service.MemberService;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * 벤치마크 입력 데이터 (대량 데이터는 DataGenerator 사용)
+ */
+public final class BenchmarkData {
+
+    static final String[] TAGS = {"dp", "greedy", "graph", "bfs", "dfs", "구현", "수학", "정렬", "문자열",
+        "이분탐색", "트리", "세그먼트트리", "백트래킹", "투포인터", "해시", "스택", "큐", "우선순위큐", "유니온파인드",
+        "비트마스킹"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 태그 count 개를 공백으로 구분한 문자열 (seed 로 시작 위치를 바꾼다)
+     */
+    static String tagText(int count, int seed) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(TAGS[(seed + i) % TAGS.length]);
+            if (i >= TAGS.length) {
+                sb.append(i / TAGS.length);
+            }
+        }
+        return sb.toString();
+    }
+
+    static Long createMember(ApplicationContext context, int index) {
+        Member member = Member.builder()
+            .name("회원" + index)
+            .email("member" + index + "@algonote.com")
+            .role(Role.USER)
+            .build();
+        return context.getBean(MemberService.class).join(member);
+    }
+}
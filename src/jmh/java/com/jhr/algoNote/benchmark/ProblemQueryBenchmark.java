@@ -0,0 +1,120 @@
+package com.jhr.algoNote.benchmark;
+
+import com.jhr.algoNote.domain.Problem;
+import com.jhr.algoNote.generator.DataGenerator;
+import com.jhr.algoNote.generator.GeneratorSpec;
+import com.jhr.algoNote.repository.MemberRepository;
+import com.jhr.algoNote.repository.query.ProblemQueryRepository;
+import com.jhr.algoNote.repository.query.ProblemSearch;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 문제 검색, 전체 목록 조회 (내장 H2, 데이터 크기별)
+ * <p>
+ * 서비스와 같이 읽기 전용 트랜잭션 안에서 조회한다. 데이터는 DataGenerator 로 만든다. (회원 10명, 고정 seed)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProblemQueryBenchmark {
+
+    private static final int MEMBERS = 10;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"100", "1000", "10000"})
+    int problems;
+
+    private ConfigurableApplicationContext context;
+    private ProblemQueryRepository problemQueryRepository;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private EntityManager em;
+    private Long memberId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        problemQueryRepository = context.getBean(ProblemQueryRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        em = context.getBean(EntityManager.class);
+
+        GeneratorSpec spec = GeneratorSpec.builder()
+            .members(MEMBERS)
+            .problems(problems)
+            .build();
+        context.getBean(DataGenerator.class).generate(spec);
+        memberId = context.getBean(MemberRepository.class).findByEmail(spec.emailOf(0)).get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Problem> search() {
+        ProblemSearch problemSearch = ProblemSearch.builder().memberId(memberId).build();
+        return readOnly.execute(status -> problemQueryRepository.search(problemSearch));
+    }
+
+    /**
+     * search 와 같은 회원의 문제를 읽기 전용 힌트 없이 조회, 엔티티마다 스냅샷을 만들고 flush 시 dirty checking 한다
+     */
+    @Benchmark
+    public List<Problem> searchReadWrite() {
+        return readWrite.execute(status -> {
+            List<Problem> result = em.createQuery(
+                    "select p from Problem p where p.member.id = :memberId", Problem.class)
+                .setParameter("memberId", memberId)
+                .getResultList();
+            em.flush();
+            return result;
+        });
+    }
+
+    /**
+     * 제목, 태그, 내용 중 하나라도 일치 (like, exists 서브쿼리)
+     */
+    @Benchmark
+    public List<Problem> searchKeyword() {
+        ProblemSearch problemSearch = ProblemSearch.builder().memberId(memberId).keyword("dp").build();
+        return readOnly.execute(status -> problemQueryRepository.search(problemSearch));
+    }
+
+    @Benchmark
+    public List<Problem> findAllFirstPage() {
+        return readOnly.execute(status -> problemQueryRepository.findAll(0, PAGE_SIZE));
+    }
+
+    /**
+     * offset 이 클수록 건너뛸 행을 모두 읽는다
+     */
+    @Benchmark
+    public List<Problem> findAllLastPage() {
+        int offset = Math.max(0, problems - PAGE_SIZE);
+        return readOnly.execute(status -> problemQueryRepository.findAll(offset, PAGE_SIZE));
+    }
+}
@@ -0,0 +1,64 @@
+package com.jhr.algoNote.benchmark;
+
+import com.jhr.algoNote.dto.ProblemCreateRequest;
+import com.jhr.algoNote.service.ProblemService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 문제 등록 (태그 개수별)
+ * <p>
+ * 태그는 20개를 돌려 쓰므로 첫 반복 이후로는 기존 태그 조회 비용이 측정된다. 등록한 문제는 지우지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegisterBenchmark {
+
+    @Param({"0", "3", "10"})
+    int tagCount;
+
+    private ConfigurableApplicationContext context;
+    private ProblemService problemService;
+    private Long memberId;
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        problemService = context.getBean(ProblemService.class);
+        memberId = BenchmarkData.createMember(context, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long register() {
+        int n = sequence++;
+        return problemService.register(memberId, ProblemCreateRequest.builder()
+            .title("문제 " + n)
+            .contentText("## 문제 " + n + "\n풀이 내용")
+            .tagText(BenchmarkData.tagText(tagCount, n))
+            .site("BAEKJOON")
+            .build());
+    }
+}
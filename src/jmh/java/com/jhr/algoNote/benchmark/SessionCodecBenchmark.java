@@ -0,0 +1,46 @@
+package com.jhr.algoNote.benchmark;
+
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.config.session.SessionAttributeCodec;
+import com.jhr.algoNote.domain.Role;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+
+/**
+ * 세션 속성(SessionUser) 직렬화 + 역직렬화, 요청 1회에 세션 저장소를 한번 읽고 쓰는 비용 (DB 접근 없음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionCodecBenchmark {
+
+    private final SessionUser user = new SessionUser(1L, "홍길동", "abc@gmail.com",
+        "https://lh3.googleusercontent.com/a/picture", Role.USER);
+    private final SessionAttributeCodec codec = new SessionAttributeCodec(getClass().getClassLoader());
+    private final DefaultSerializer javaSerializer = new DefaultSerializer();
+    private final DefaultDeserializer javaDeserializer = new DefaultDeserializer(getClass().getClassLoader());
+
+    @Benchmark
+    public Object compact() throws IOException {
+        return codec.deserializeFromByteArray(codec.serializeToByteArray(user));
+    }
+
+    @Benchmark
+    public Object java() throws IOException {
+        return javaDeserializer.deserializeFromByteArray(javaSerializer.serializeToByteArray(user));
+    }
+}
@@ -0,0 +1,85 @@
+package com.jhr.algoNote.benchmark;
+
+import com.jhr.algoNote.domain.tag.ProblemTag;
+import com.jhr.algoNote.domain.tag.ReviewTag;
+import com.jhr.algoNote.domain.tag.Tag;
+import com.jhr.algoNote.service.ProblemService;
+import com.jhr.algoNote.service.ReviewService;
+import com.jhr.algoNote.service.TagService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 태그 문자열 분리, 태그 목록 → 문자열 변환 (DB 접근 없음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TagBenchmark {
+
+    @Param({"1", "5", "20"})
+    int tagCount;
+
+    private ConfigurableApplicationContext context;
+    private ProblemService problemService;
+    private ReviewService reviewService;
+
+    //사용자 입력처럼 쉼표, 공백, 특수문자가 섞인 태그 문자열
+    private String tagText;
+    private List<ProblemTag> problemTags;
+    private List<ReviewTag> reviewTags;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        problemService = context.getBean(ProblemService.class);
+        reviewService = context.getBean(ReviewService.class);
+
+        tagText = BenchmarkData.tagText(tagCount, 0).replace(" ", ",  #");
+        problemTags = new ArrayList<>();
+        reviewTags = new ArrayList<>();
+        for (String name : BenchmarkData.tagText(tagCount, 0).split(" ")) {
+            Tag tag = Tag.builder().name(name).build();
+            problemTags.add(ProblemTag.createProblemTag(tag));
+            reviewTags.add(ReviewTag.createReviewTag(tag));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String[] sliceTextToTagNames() {
+        return TagService.sliceTextToTagNames(tagText);
+    }
+
+    @Benchmark
+    public String problemTagText() {
+        return problemService.getTagText(problemTags);
+    }
+
+    @Benchmark
+    public String reviewTagText() {
+        return reviewService.getTagText(reviewTags);
+    }
+}
@@ -0,0 +1,44 @@
+package com.jhr.algoNote.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 부하 테스트 요청 종류, 기본 비율은 조회 위주 (mix 옵션으로 변경)
+ */
+public enum Endpoint {
+    HOME("home", "GET /", 10),
+    LIST("list", "GET /problems", 30),
+    SEARCH("search", "GET /problems/search", 20),
+    DETAIL("detail", "GET /problems/{id}", 30),
+    CREATE_PROBLEM("createProblem", "POST /problems/new", 5),
+    CREATE_REVIEW("createReview", "POST /reviews/new", 5);
+
+    private final String key;
+    private final String description;
+    private final int defaultWeight;
+
+    Endpoint(String key, String description, int defaultWeight) {
+        this.key = key;
+        this.description = description;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public static Endpoint of(String key) {
+        return Arrays.stream(values())
+            .filter(endpoint -> endpoint.key.equalsIgnoreCase(key))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("알 수 없는 요청 종류입니다. (" + key + ")"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.jhr.algoNote.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 요청 종류별 지연 시간(µs) 히스토그램, 성공/실패 횟수
+ * <p>
+ * 지연 시간은 실제로 보낸 요청의 응답 시간이다. 가상 사용자는 응답을 받은 후 다음 요청을 보내므로 (closed loop) 서버가
+ * 멈춘 동안 보내지 못한 요청은 기록되지 않는다. (coordinated omission) 꼬리 지연은 처리량과 함께 봐야 한다.
+ */
+public class LatencyRecorder {
+
+    //1분 이상 걸린 요청도 기록은 하되 1분으로 센다
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+
+    public LatencyRecorder() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+    }
+
+    public void record(Endpoint endpoint, long elapsedNanos, boolean success) {
+        Stats endpointStats = stats.get(endpoint);
+        endpointStats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_MICROS));
+        if (!success) {
+            endpointStats.errors.increment();
+        }
+    }
+
+    public Histogram getLatency(Endpoint endpoint) {
+        return stats.get(endpoint).latency;
+    }
+
+    public long getErrors(Endpoint endpoint) {
+        return stats.get(endpoint).errors.sum();
+    }
+
+    /**
+     * 전체 요청을 합친 히스토그램
+     */
+    public Histogram getTotalLatency() {
+        Histogram total = new Histogram(MAX_MICROS, 3);
+        for (Stats endpointStats : stats.values()) {
+            total.add(endpointStats.latency);
+        }
+        return total;
+    }
+
+    public long getTotalErrors() {
+        return stats.values().stream().mapToLong(s -> s.errors.sum()).sum();
+    }
+
+    private static class Stats {
+
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(MAX_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
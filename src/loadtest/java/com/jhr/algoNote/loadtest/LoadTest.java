@@ -0,0 +1,85 @@
+package com.jhr.algoNote.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * HTTP 부하 테스트 (대상 서버는 loadtest 프로필로 실행)
+ * <p>
+ * 가상 사용자마다 로그인 후 warmup 동안 요청을 보내고, 이후 duration 동안의 요청만 집계한다.
+ * <pre>
+ * ./gradlew bootRun --args='--spring.profiles.active=loadtest'
+ * ./gradlew loadTest -Pusers=50 -Pduration=120 -Pmix=list=50,detail=50
+ * </pre>
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        System.out.println("부하 테스트 시작 - " + config);
+
+        List<VirtualUser> users = new ArrayList<>();
+        LatencyRecorder recorder = new LatencyRecorder();
+        ExecutorService executor = Executors.newFixedThreadPool(config.getUsers());
+        try {
+            for (int i = 0; i < config.getUsers(); i++) {
+                users.add(new VirtualUser(i, config, recorder));
+            }
+            login(executor, users);
+
+            long measureFrom = System.nanoTime() + config.getWarmup().toNanos();
+            long end = measureFrom + config.getDuration().toNanos();
+            List<Future<?>> running = new ArrayList<>();
+            for (VirtualUser user : users) {
+                running.add(executor.submit(() -> user.run(measureFrom, end)));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+
+            LoadTestReport report = new LoadTestReport(config, recorder);
+            report.print(System.out);
+            if (config.getOutput() != null) {
+                Path output = Path.of(config.getOutput());
+                report.write(output);
+                System.out.println("결과 저장: " + output.toAbsolutePath());
+            }
+            if (recorder.getTotalLatency().getTotalCount() == 0) {
+                System.exit(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 모든 가상 사용자 로그인, 측정 시작 전에 끝나야 한다 (로그인은 측정하지 않는다)
+     */
+    private static void login(ExecutorService executor, List<VirtualUser> users)
+        throws InterruptedException, IOException {
+        List<Future<Void>> logins = new ArrayList<>();
+        for (VirtualUser user : users) {
+            logins.add(executor.submit((Callable<Void>) () -> {
+                user.login();
+                return null;
+            }));
+        }
+        for (Future<Void> login : logins) {
+            try {
+                login.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.jhr.algoNote.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정, 인자는 key=value 형식 (./gradlew loadTest -Pusers=50 -Pduration=120)
+ */
+public class LoadTestConfig {
+
+    private static final List<String> DEFAULT_KEYWORDS = List.of("배열", "그래프", "트리", "Two Sum",
+        "토마토", "dp", "Coin Change", "미로");
+
+    private final URI baseUrl;
+    private final int users;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Duration thinkTime;
+    private final RequestMix mix;
+    private final long seed;
+    private final int members;
+    private final List<String> keywords;
+    private final String output;
+
+    private LoadTestConfig(Map<String, String> options) {
+        this.baseUrl = URI.create(trimSlash(options.getOrDefault("baseUrl", "http://localhost:8080")));
+        this.users = Integer.parseInt(options.getOrDefault("users", "20"));
+        this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        this.warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        this.thinkTime = Duration.ofMillis(Long.parseLong(options.getOrDefault("thinkTime", "0")));
+        this.mix = options.containsKey("mix") ? RequestMix.parse(options.get("mix")) : RequestMix.defaults();
+        this.seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        this.members = Integer.parseInt(options.getOrDefault("members", "100"));
+        this.keywords = options.containsKey("keywords")
+            ? Arrays.asList(options.get("keywords").split(",")) : DEFAULT_KEYWORDS;
+        this.output = options.get("output");
+
+        if (users <= 0 || members <= 0 || duration.isZero() || duration.isNegative()
+            || warmup.isNegative() || thinkTime.isNegative()) {
+            throw new IllegalArgumentException("부하 테스트 설정이 올바르지 않습니다.");
+        }
+    }
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = option.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("인자는 key=value 형식이어야 합니다. (" + arg + ")");
+            }
+            options.put(option.substring(0, separator), option.substring(separator + 1));
+        }
+        return new LoadTestConfig(options);
+    }
+
+    /**
+     * 가상 사용자가 로그인할 이메일, DataGenerator 가 만든 회원 (GeneratorSpec.emailOf 와 같은 형식)
+     * <p>
+     * 데이터를 생성하지 않았으면 로그인할 때 회원이 새로 가입된다.
+     */
+    public String emailOf(int user) {
+        return "user" + (user % members) + ".seed" + seed + "@algonote.dev";
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public URI getBaseUrl() {
+        return baseUrl;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getThinkTime() {
+        return thinkTime;
+    }
+
+    public RequestMix getMix() {
+        return mix;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    @Override
+    public String toString() {
+        return "baseUrl=" + baseUrl + ", users=" + users + ", duration=" + duration.getSeconds()
+            + "s, warmup=" + warmup.getSeconds() + "s, thinkTime=" + thinkTime.toMillis()
+            + "ms, mix=" + mix + ", seed=" + seed + ", members=" + members;
+    }
+}
@@ -0,0 +1,96 @@
+package com.jhr.algoNote.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 요청 종류별 처리량, 지연 시간 백분위 (ms)
+ * <p>
+ * JSON 결과는 릴리스 간 비교에 사용한다. (build/reports/loadtest)
+ */
+public class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50.0, 99.0, 99.9};
+
+    private final LoadTestConfig config;
+    private final List<Row> rows = new ArrayList<>();
+
+    public LoadTestReport(LoadTestConfig config, LatencyRecorder recorder) {
+        this.config = config;
+        double seconds = config.getDuration().toMillis() / 1_000.0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram latency = recorder.getLatency(endpoint);
+            if (latency.getTotalCount() > 0) {
+                rows.add(new Row(endpoint.getDescription(), latency, recorder.getErrors(endpoint), seconds));
+            }
+        }
+        rows.add(new Row("TOTAL", recorder.getTotalLatency(), recorder.getTotalErrors(), seconds));
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-24s %9s %7s %9s %9s %9s %9s %9s%n",
+            "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (Row row : rows) {
+            out.printf("%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                row.name, row.count, row.errors, row.throughput,
+                row.percentiles[0], row.percentiles[1], row.percentiles[2], row.max);
+        }
+    }
+
+    public void write(Path path) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("time", LocalDateTime.now().toString());
+        result.put("config", config.toString());
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (Row row : rows) {
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", row.name);
+            endpoint.put("count", row.count);
+            endpoint.put("errors", row.errors);
+            endpoint.put("throughput", row.throughput);
+            endpoint.put("p50", row.percentiles[0]);
+            endpoint.put("p99", row.percentiles[1]);
+            endpoint.put("p999", row.percentiles[2]);
+            endpoint.put("max", row.max);
+            endpoints.add(endpoint);
+        }
+        result.put("endpoints", endpoints);
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(path.toFile(), result);
+    }
+
+    private static class Row {
+
+        private final String name;
+        private final long count;
+        private final long errors;
+        private final double throughput;
+        private final double[] percentiles = new double[PERCENTILES.length];
+        private final double max;
+
+        Row(String name, Histogram latency, long errors, double seconds) {
+            this.name = name;
+            this.count = latency.getTotalCount();
+            this.errors = errors;
+            this.throughput = count / seconds;
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                percentiles[i] = latency.getValueAtPercentile(PERCENTILES[i]) / 1_000.0;
+            }
+            this.max = latency.getMaxValue() / 1_000.0;
+        }
+    }
+}
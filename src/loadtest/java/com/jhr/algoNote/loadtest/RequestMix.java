@@ -0,0 +1,79 @@
+package com.jhr.algoNote.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 요청 종류별 가중치, 가중치에 비례해 다음 요청을 고른다
+ * <p>
+ * 형식: home=10,list=30,search=20,detail=30,createProblem=5,createReview=5 (빠진 종류는 0)
+ */
+public class RequestMix {
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private RequestMix(Map<Endpoint, Integer> weights) {
+        this.endpoints = weights.keySet().toArray(new Endpoint[0]);
+        this.cumulativeWeights = new int[endpoints.length];
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += weights.get(endpoints[i]);
+            cumulativeWeights[i] = sum;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("가중치 합은 0보다 커야 합니다.");
+        }
+        this.totalWeight = sum;
+    }
+
+    public static RequestMix defaults() {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            weights.put(endpoint, endpoint.getDefaultWeight());
+        }
+        return new RequestMix(weights);
+    }
+
+    public static RequestMix parse(String text) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : text.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 형식이 올바르지 않습니다. (" + entry + ")");
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("가중치는 0 이상이어야 합니다. (" + entry + ")");
+            }
+            weights.put(Endpoint.of(pair[0].trim()), weight);
+        }
+        return new RequestMix(weights);
+    }
+
+    public Endpoint next(SplittableRandom random) {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < endpoints.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(endpoints[i].getKey()).append('=').append(cumulativeWeights[i] - previous);
+            previous = cumulativeWeights[i];
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,216 @@
+package com.jhr.algoNote.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 사용자 하나, 자신의 세션으로 로그인 후 종료 시각까지 요청을 반복한다
+ * <p>
+ * 리다이렉트는 따라가지 않는다. 조회는 200, 등록은 문제 상세로의 302 만 성공으로 센다. (세션이 끊기면 로그인 페이지로
+ * 리다이렉트되므로 실패로 잡힌다)
+ */
+public class VirtualUser {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Pattern PROBLEM_LOCATION = Pattern.compile("/problems/(\\d+)$");
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String[] SITES = {"BAEKJOON", "PROGRAMMERS", "LEETCODE"};
+    private static final String[] TAGS = {"dp", "greedy", "bfs", "dfs", "graph", "tree", "구현", "수학"};
+
+    private final int index;
+    private final LoadTestConfig config;
+    private final LatencyRecorder recorder;
+    private final SplittableRandom random;
+    private final HttpClient client;
+
+    //회원의 문제 id, 등록한 문제도 추가한다
+    private final List<Long> problemIds = new ArrayList<>();
+    private int created;
+
+    public VirtualUser(int index, LoadTestConfig config, LatencyRecorder recorder) {
+        this.index = index;
+        this.config = config;
+        this.recorder = recorder;
+        this.random = new SplittableRandom(config.getSeed() * 31 + index);
+        this.client = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .followRedirects(Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(10))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    }
+
+    /**
+     * 로그인 (세션 쿠키 발급), 실패하면 예외
+     */
+    public void login() throws IOException, InterruptedException {
+        String email = config.emailOf(index);
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/loadtest/login?email=" + encode(email)))
+            .timeout(REQUEST_TIMEOUT)
+            .POST(BodyPublishers.noBody())
+            .build();
+        HttpResponse<String> response = client.send(request, BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인에 실패했습니다. (email=" + email + ", status="
+                + response.statusCode() + ", loadtest 프로필로 실행했는지 확인)");
+        }
+        JsonNode result = objectMapper.readTree(response.body());
+        result.path("problemIds").forEach(id -> problemIds.add(id.asLong()));
+    }
+
+    /**
+     * endNanos 까지 요청 반복, measureFromNanos 이후에 보낸 요청만 기록한다 (System.nanoTime 기준)
+     */
+    public void run(long measureFromNanos, long endNanos) {
+        while (System.nanoTime() < endNanos && !Thread.currentThread().isInterrupted()) {
+            Endpoint endpoint = resolve(config.getMix().next(random));
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = send(endpoint);
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (start >= measureFromNanos) {
+                recorder.record(endpoint, System.nanoTime() - start, success);
+            }
+            if (!config.getThinkTime().isZero()) {
+                try {
+                    Thread.sleep(config.getThinkTime().toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 문제가 없는 회원은 상세 조회 대신 목록, 리뷰 작성 대신 문제 등록
+     */
+    private Endpoint resolve(Endpoint endpoint) {
+        if (!problemIds.isEmpty()) {
+            return endpoint;
+        }
+        if (endpoint == Endpoint.DETAIL) {
+            return Endpoint.LIST;
+        }
+        if (endpoint == Endpoint.CREATE_REVIEW) {
+            return Endpoint.CREATE_PROBLEM;
+        }
+        return endpoint;
+    }
+
+    private boolean send(Endpoint endpoint) throws IOException, InterruptedException {
+        switch (endpoint) {
+            case HOME:
+                return get("/");
+            case LIST:
+                return get("/problems");
+            case SEARCH:
+                return get("/problems/search?keyword=" + encode(pick(config.getKeywords())));
+            case DETAIL:
+                return get("/problems/" + pick(problemIds));
+            case CREATE_PROBLEM:
+                return createProblem();
+            case CREATE_REVIEW:
+                return createReview();
+            default:
+                throw new IllegalArgumentException("지원하지 않는 요청입니다. (" + endpoint + ")");
+        }
+    }
+
+    private boolean get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        return client.send(request, BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private boolean createProblem() throws IOException, InterruptedException {
+        created++;
+        String title = "부하 테스트 " + index + "-" + created;
+        Long problemId = postForm("/problems/new", Map.of(
+            "title", title,
+            "url", "https://www.acmicpc.net/problem/" + (1000 + random.nextInt(20000)),
+            "contentText", "## " + title + "\n\n부하 테스트로 등록한 문제",
+            "tagText", pick(TAGS) + " " + pick(TAGS),
+            "site", pick(SITES)));
+        if (problemId == null) {
+            return false;
+        }
+        problemIds.add(problemId);
+        return true;
+    }
+
+    private boolean createReview() throws IOException, InterruptedException {
+        Long problemId = pick(problemIds);
+        Long redirected = postForm("/reviews/new", Map.of(
+            "title", "부하 테스트 리뷰",
+            "contentText", "다시 풀기",
+            "tagText", pick(TAGS),
+            "problemId", String.valueOf(problemId),
+            "quality", String.valueOf(random.nextInt(6))));
+        return problemId.equals(redirected);
+    }
+
+    /**
+     * @return 리다이렉트된 문제 id, 문제 상세로 리다이렉트되지 않았으면 null
+     */
+    private Long postForm(String path, Map<String, String> form)
+        throws IOException, InterruptedException {
+        String body = form.entrySet().stream()
+            .map(e -> encode(e.getKey()) + "=" + encode(e.getValue()))
+            .collect(Collectors.joining("&"));
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+            .POST(BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+            .build();
+        HttpResponse<Void> response = client.send(request, BodyHandlers.discarding());
+        if (response.statusCode() != 302) {
+            return null;
+        }
+        Matcher matcher = PROBLEM_LOCATION.matcher(response.headers().firstValue("Location").orElse(""));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : null;
+    }
+
+    private URI uri(String path) {
+        return URI.create(config.getBaseUrl() + path);
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,116 @@
+package com.jhr.algoNote.api.assembler;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import com.jhr.algoNote.api.dto.ProblemDto;
+import com.jhr.algoNote.api.dto.ProblemTagDto;
+import com.jhr.algoNote.api.dto.ReviewDto;
+import com.jhr.algoNote.dto.ResourceVersion;
+import com.jhr.algoNote.repository.query.ProblemField;
+import com.jhr.algoNote.repository.query.ProblemQueryDto;
+import com.jhr.algoNote.repository.query.ProblemQueryRepository;
+import com.jhr.algoNote.repository.query.ProblemSort;
+import com.jhr.algoNote.repository.query.ProblemTagQueryDto;
+import com.jhr.algoNote.repository.query.ReviewTitleQueryDto;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 문제 API 응답 조립기
+ * <p>
+ * 문제 페이지를 조회한 뒤, 페이지 전체의 태그와 리뷰 제목을 각각 IN 쿼리 1번으로 가져와 메모리에서 매핑한다. 페이지 크기와 관계없이 쿼리는
+ * 최대 3번만 실행된다.
+ */
+@Component
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ProblemDtoAssembler {
+
+    private final ProblemQueryRepository problemQueryRepository;
+
+    /**
+     * 요청한 페이지의 버전 정보 (ETag 검증용 메타데이터 조회)
+     */
+    public ResourceVersion findVersion(int offset, int limit, ProblemSort sort, Integer minReviews) {
+        return problemQueryRepository.findPageVersion(offset, limit, sort, minReviews);
+    }
+
+    public List<ProblemDto> findProblems(int offset, int limit) {
+        return findProblems(offset, limit, EnumSet.allOf(ProblemField.class));
+    }
+
+    /**
+     * 요청된 필드만 조회, 태그와 리뷰는 요청된 경우에만 쿼리를 실행한다.
+     */
+    public List<ProblemDto> findProblems(int offset, int limit, Set<ProblemField> fields) {
+        return findProblems(offset, limit, fields, ProblemSort.ID, null);
+    }
+
+    /**
+     * 정렬, 리뷰 개수 필터 적용
+     *
+     * @param minReviews 리뷰가 이 개수 이상인 문제만, null 이면 전체
+     */
+    public List<ProblemDto> findProblems(int offset, int limit, Set<ProblemField> fields,
+        ProblemSort sort, Integer minReviews) {
+        List<ProblemQueryDto> problems = problemQueryRepository.findProblemPage(offset, limit,
+            fields, sort, minReviews);
+        return assemble(problems, fields);
+    }
+
+    /**
+     * id 목록으로 조회, 요청한 id 순서대로 반환하며 존재하지 않는 id는 제외된다.
+     */
+    public List<ProblemDto> findProblemsByIds(List<Long> problemIds, Set<ProblemField> fields) {
+        Map<Long, ProblemQueryDto> problemMap = problemQueryRepository
+            .findProblemsByIds(problemIds, fields).stream()
+            .collect(toMap(ProblemQueryDto::getProblemId, p -> p));
+
+        List<ProblemQueryDto> problems = problemIds.stream()
+            .filter(problemMap::containsKey)
+            .map(problemMap::get)
+            .collect(toList());
+        return assemble(problems, fields);
+    }
+
+    private List<ProblemDto> assemble(List<ProblemQueryDto> problems, Set<ProblemField> fields) {
+        List<Long> problemIds = problems.stream()
+            .map(ProblemQueryDto::getProblemId)
+            .collect(toList());
+
+        // 문제 id -> 태그, 리뷰
+        Map<Long, List<ProblemTagDto>> tagMap = fields.contains(ProblemField.TAGS)
+            ? findTagMap(problemIds) : null;
+        Map<Long, List<ReviewDto>> reviewMap = fields.contains(ProblemField.REVIEWS)
+            ? findReviewMap(problemIds) : null;
+
+        return problems.stream()
+            .map(p -> new ProblemDto(p,
+                tagMap == null ? null
+                    : tagMap.getOrDefault(p.getProblemId(), Collections.emptyList()),
+                reviewMap == null ? null
+                    : reviewMap.getOrDefault(p.getProblemId(), Collections.emptyList())))
+            .collect(toList());
+    }
+
+    private Map<Long, List<ProblemTagDto>> findTagMap(List<Long> problemIds) {
+        return problemQueryRepository.findTagNames(problemIds).stream()
+            .collect(groupingBy(ProblemTagQueryDto::getProblemId,
+                mapping(t -> new ProblemTagDto(t.getTagName()), toList())));
+    }
+
+    private Map<Long, List<ReviewDto>> findReviewMap(List<Long> problemIds) {
+        return problemQueryRepository.findReviewTitles(problemIds).stream()
+            .collect(groupingBy(ReviewTitleQueryDto::getProblemId,
+                mapping(r -> new ReviewDto(r.getTitle()), toList())));
+    }
+}
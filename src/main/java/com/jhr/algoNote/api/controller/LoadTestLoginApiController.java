@@ -0,0 +1,95 @@
+package com.jhr.algoNote.api.controller;
+
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.domain.Member;
+import com.jhr.algoNote.domain.Problem;
+import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.repository.MemberRepository;
+import com.jhr.algoNote.repository.query.ProblemSearch;
+import com.jhr.algoNote.service.MemberService;
+import com.jhr.algoNote.service.ProblemService;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpSession;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 부하 테스트용 로그인 (loadtest 프로필에서만 등록)
+ * <p>
+ * 구글 로그인 없이 이메일로 로그인한다. 세션에는 OAuth 로그인과 같은 user, SecurityContext 를 저장한다.
+ */
+@Profile("loadtest")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/loadtest")
+public class LoadTestLoginApiController {
+
+    private static final int MAX_PROBLEM_IDS = 100;
+
+    private final MemberService memberService;
+    private final MemberRepository memberRepository;
+    private final ProblemService problemService;
+    private final HttpSession httpSession;
+
+    /**
+     * 회원이 없으면 가입 후 로그인
+     *
+     * @return 회원 id, 회원의 문제 id (최대 100개, 상세 조회/리뷰 작성 요청에 사용)
+     */
+    @PostMapping("/login")
+    public LoginResult login(@RequestParam("email") String email) {
+        List<Member> members = memberRepository.findByEmail(email);
+        Member member;
+        if (members.isEmpty()) {
+            member = Member.builder()
+                .name(email.substring(0, Math.max(email.indexOf('@'), 0)))
+                .email(email)
+                .role(Role.USER)
+                .build();
+            memberService.join(member);
+        } else {
+            member = members.get(0);
+        }
+        SessionUser user = new SessionUser(member);
+        httpSession.setAttribute("user", user);
+
+        OAuth2User principal = new DefaultOAuth2User(
+            Collections.singleton(new SimpleGrantedAuthority(user.getRole().getKey())),
+            Map.of("email", email, "name", user.getName()), "email");
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new OAuth2AuthenticationToken(principal, principal.getAuthorities(), "google"));
+        SecurityContextHolder.setContext(context);
+        httpSession.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context);
+
+        List<Long> problemIds = problemService.search(ProblemSearch.builder().memberId(user.getId()).build())
+            .stream()
+            .map(Problem::getId)
+            .limit(MAX_PROBLEM_IDS)
+            .collect(Collectors.toList());
+        return new LoginResult(user.getId(), problemIds);
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class LoginResult {
+
+        private Long memberId;
+        private List<Long> problemIds;
+    }
+}
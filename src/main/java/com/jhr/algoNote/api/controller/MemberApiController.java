@@ -1,10 +1,12 @@
 package com.jhr.algoNote.api.controller;
 
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.jhr.algoNote.api.dto.CreateMemberRequest;
 import com.jhr.algoNote.api.dto.CreateMemberResponse;
 import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.repository.query.MemberQueryDto;
 import com.jhr.algoNote.service.MemberService;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -72,14 +74,25 @@ public class MemberApiController {
         private String picture;
     }
 
+    /**
+     * 회원 목록 조회 (keyset 페이징)
+     *
+     * @param lastId 이전 페이지의 마지막 회원 id (응답의 nextId), 첫 페이지는 생략
+     * @param counts true 이면 회원별 문제, 리뷰 개수 포함
+     */
     @GetMapping
-    public Result members() {
-        List<Member> members = memberService.findMembers();
+    public PageResult members(@RequestParam(value = "lastId", required = false) Long lastId,
+                              @RequestParam(value = "size", defaultValue = "20") int size,
+                              @RequestParam(value = "counts", defaultValue = "false") boolean counts) {
+        List<MemberQueryDto> members = memberService.findMembers(lastId, size, counts);
         List<MemberDto> collect = members.stream()
-                .map(m -> new MemberDto(m.getId(), m.getName(), m.getPicture()))
+                .map(m -> new MemberDto(m.getId(), m.getName(), m.getPicture(),
+                        m.getProblemCount(), m.getReviewCount()))
                 .collect(Collectors.toList());
 
-        return new Result(collect);
+        //마지막 페이지면 null
+        Long nextId = members.size() < size ? null : members.get(members.size() - 1).getId();
+        return new PageResult(collect, nextId);
     }
 
     @Data
@@ -88,11 +101,22 @@ public class MemberApiController {
         private T data;
     }
 
+    @Data
+    @AllArgsConstructor
+    static class PageResult<T> {
+        private T data;
+        private Long nextId;
+    }
+
     @Data
     @AllArgsConstructor
     static class MemberDto {
         private Long id;
         private String name;
         private String picture;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long problemCount;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long reviewCount;
     }
 }
@@ -1,86 +1,158 @@
 package com.jhr.algoNote.api.controller;
 
-import static java.util.stream.Collectors.toList;
-
-import com.jhr.algoNote.domain.Problem;
-import com.jhr.algoNote.repository.ProblemRepository;
-import com.jhr.algoNote.repository.query.ProblemQueryRepository;
-import com.jhr.algoNote.service.ProblemService;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.jhr.algoNote.api.assembler.ProblemDtoAssembler;
+import com.jhr.algoNote.api.dto.ProblemDto;
+import com.jhr.algoNote.dto.ResourceVersion;
+import com.jhr.algoNote.repository.query.ProblemField;
+import com.jhr.algoNote.repository.query.ProblemSort;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * xToOne(ManyToOne, OneToOne) Problem -> Member Problem -> Contnet
+ * <p>
+ * xToMany(ProblemTag, Review) 는 ProblemDtoAssembler 에서 IN 쿼리로 한번에 조회
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/problems")
 public class ProblemApiController {
 
-    private final ProblemQueryRepository problemQueryRepository;
+    private final ProblemDtoAssembler problemDtoAssembler;
+
+    //URI
+    private final String BATCH = "/batch";
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * 문제 목록 조회
+     *
+     * @param fields     응답에 포함할 필드 (예: fields=id,title,site,tags 또는 fields=summary), 생략시 전체
+     * @param sort       정렬 (ID, LATEST, REVIEW_COUNT, LAST_REVIEWED)
+     * @param minReviews 리뷰가 이 개수 이상인 문제만
+     */
     @GetMapping
-    public Result problems(@RequestParam(value = "offset", defaultValue = "0") int offset,
-        @RequestParam(value = "limit", defaultValue = "100") int limit) {
-        List<Problem> problems = problemQueryRepository.findAll(offset, limit);
-        List<ProblemDto> result = problems.stream().map(p -> new ProblemDto(p)).collect(toList());
-        return new Result(result);
-    }
+    public MappingJacksonValue problems(
+        @RequestParam(value = "offset", defaultValue = "0") int offset,
+        @RequestParam(value = "limit", defaultValue = "100") int limit,
+        @RequestParam(value = "fields", required = false) String fields,
+        @RequestParam(value = "sort", defaultValue = "ID") ProblemSort sort,
+        @RequestParam(value = "minReviews", required = false) Integer minReviews,
+        WebRequest webRequest) {
+        Set<ProblemField> problemFields = ProblemField.parse(fields);
+
+        //변경되지 않았으면 304
+        ResourceVersion version = problemDtoAssembler.findVersion(offset, limit, sort, minReviews);
+        if (version != null && webRequest.checkNotModified(
+            version.toETag(offset, limit, problemFields, sort, minReviews),
+            version.getLastModifiedMillis())) {
+            return null;
+        }
 
-    @Data
-    @AllArgsConstructor
-    static class Result<T> {
+        List<ProblemDto> result = problemDtoAssembler.findProblems(offset, limit, problemFields,
+            sort, minReviews);
+        return filter(new Result(result), problemFields);
+    }
 
-        T data;
+    /**
+     * id 목록으로 문제 조회 (GET /api/problems?ids=1,2,3)
+     * <p>
+     * 요청한 id 순서를 유지하며, 존재하지 않는 id는 missingIds 로 반환한다.
+     */
+    @GetMapping(params = "ids")
+    public MappingJacksonValue problemsByIds(@RequestParam("ids") List<Long> ids,
+        @RequestParam(value = "fields", required = false) String fields) {
+        return findByIds(ids, fields);
     }
 
-    @Getter
-    static class ProblemDto {
-
-        private Long problemId;
-        private String problemTitle;
-        private String problemSite;
-        private String problemUrl;
-        private String name;
-        private String problemContent;
-        //OneToMany
-        private List<ProblemTagDto> problemTags;
-        private List<ReviewDto> reviews;
-
-        public ProblemDto(Problem problem) {
-            this.problemId = problem.getId();
-            this.problemTitle = problem.getTitle();
-            this.problemSite = problem.getSite();
-            this.problemUrl = problem.getUrl();
-            this.name = problem.getMember().getName();
-            this.problemContent = problem.getContent().getText();
-            this.problemTags = problem.getProblemTags().stream()
-                .map(pt -> new ProblemTagDto(pt.getTag().getName())).collect(toList());
-            this.reviews = problem.getReviews().stream().map(r -> new ReviewDto(r.getTitle()))
-                .collect(toList());
+    /**
+     * id 목록으로 문제 조회, URL 길이 제한을 피하기 위한 POST 버전
+     */
+    @PostMapping(BATCH)
+    public MappingJacksonValue problemsByIds(@RequestBody @Valid ProblemIdsRequest request,
+        @RequestParam(value = "fields", required = false) String fields) {
+        return findByIds(request.getIds(), fields);
+    }
 
+    private MappingJacksonValue findByIds(List<Long> ids, String fields) {
+        // ids=1,,2 의 빈 값은 null 로 변환된다
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("id 목록에 빈 값이 있습니다.");
+        }
+        // 중복 제거, 요청 순서 유지
+        List<Long> problemIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (problemIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                "한번에 조회할 수 있는 문제는 최대 " + MAX_BATCH_SIZE + "개 입니다.");
         }
+
+        Set<ProblemField> problemFields = ProblemField.parse(fields);
+        List<ProblemDto> result = problemDtoAssembler.findProblemsByIds(problemIds, problemFields);
+
+        Set<Long> foundIds = result.stream()
+            .map(ProblemDto::getProblemId)
+            .collect(Collectors.toSet());
+        List<Long> missingIds = problemIds.stream()
+            .filter(id -> !foundIds.contains(id))
+            .collect(Collectors.toList());
+
+        return filter(new BatchResult(result, missingIds), problemFields);
+    }
+
+    /**
+     * 요청된 필드만 직렬화
+     */
+    private MappingJacksonValue filter(Object result, Set<ProblemField> problemFields) {
+        Set<String> properties = problemFields.stream()
+            .map(ProblemField::getProperty)
+            .collect(Collectors.toSet());
+
+        MappingJacksonValue value = new MappingJacksonValue(result);
+        value.setFilters(new SimpleFilterProvider().addFilter(ProblemDto.FILTER_ID,
+            SimpleBeanPropertyFilter.filterOutAllExcept(properties)));
+        return value;
     }
 
-    @Getter
+    @Data
     @AllArgsConstructor
-    static class ProblemTagDto {
+    static class Result<T> {
 
-        private String tagName;
+        T data;
     }
 
-    @Getter
+    @Data
     @AllArgsConstructor
-    static class ReviewDto {
+    static class BatchResult<T> {
+
+        T data;
+        List<Long> missingIds;
+    }
+
+    @Data
+    static class ProblemIdsRequest {
 
-        private String Title;
+        @NotEmpty
+        private List<Long> ids;
     }
 
 }
@@ -0,0 +1,68 @@
+package com.jhr.algoNote.api.controller;
+
+import com.jhr.algoNote.config.auth.LoginUser;
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.repository.query.ReviewQueryDto;
+import com.jhr.algoNote.service.ReviewService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/reviews")
+public class ReviewApiController {
+
+    private final ReviewService reviewService;
+
+    /**
+     * 로그인한 회원의 리뷰 목록 조회 (최신순, keyset 페이징)
+     *
+     * @param lastId 이전 페이지의 마지막 리뷰 id (응답의 nextId), 첫 페이지는 생략
+     */
+    @GetMapping
+    public PageResult<List<ReviewSummaryDto>> reviews(
+        @LoginUser SessionUser user,
+        @RequestParam(value = "lastId", required = false) Long lastId,
+        @RequestParam(value = "size", defaultValue = "20") int size) {
+        List<ReviewQueryDto> reviews = reviewService.findReviews(user.getId(), lastId, size);
+        List<ReviewSummaryDto> collect = reviews.stream()
+            .map(r -> new ReviewSummaryDto(r.getReviewId(), r.getTitle(), r.getProblemId(),
+                r.getProblemTitle(), r.getTagNames(), r.getCreatedDate(), r.getModifiedDate()))
+            .collect(Collectors.toList());
+
+        //마지막 페이지면 null
+        Long nextId = reviews.size() < size ? null : reviews.get(reviews.size() - 1).getReviewId();
+        return new PageResult<>(collect, nextId);
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class PageResult<T> {
+
+        private T data;
+        private Long nextId;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class ReviewSummaryDto {
+
+        private Long id;
+        private String title;
+        private Long problemId;
+        private String problemTitle;
+        private List<String> tags;
+        private LocalDateTime createdDate;
+        private LocalDateTime modifiedDate;
+    }
+}
@@ -0,0 +1,55 @@
+package com.jhr.algoNote.api.controller;
+
+import com.jhr.algoNote.config.auth.LoginUser;
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.repository.query.ScheduledProblemQueryDto;
+import com.jhr.algoNote.service.ProblemService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/review-queue")
+public class ReviewQueueApiController {
+
+    private final ProblemService problemService;
+
+    /**
+     * 로그인한 회원의 오늘 복습할 문제 목록과 지금 복습할 문제 개수
+     */
+    @GetMapping
+    public QueueResult queue(@LoginUser SessionUser user) {
+        List<DueProblemDto> collect = problemService.findDueProblems(user.getId()).stream()
+            .map(p -> new DueProblemDto(p.getProblemId(), p.getTitle(), p.getSite(),
+                p.getNextReviewAt()))
+            .collect(Collectors.toList());
+        return new QueueResult(collect, problemService.countDueProblems(user.getId()));
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class QueueResult {
+
+        private List<DueProblemDto> data;
+        private long dueCount;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class DueProblemDto {
+
+        private Long problemId;
+        private String title;
+        private String site;
+        private LocalDateTime nextReviewAt;
+    }
+}
@@ -0,0 +1,43 @@
+package com.jhr.algoNote.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.jhr.algoNote.repository.query.ProblemQueryDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * fields 파라미터로 응답 필드를 선택할 수 있도록 FILTER_ID 필터를 사용한다.
+ */
+@Getter
+@JsonFilter(ProblemDto.FILTER_ID)
+public class ProblemDto {
+
+    public static final String FILTER_ID = "problemFields";
+
+    private Long problemId;
+    private String problemTitle;
+    private String problemSite;
+    private String problemUrl;
+    private String name;
+    private String problemContent;
+    //OneToMany
+    private List<ProblemTagDto> problemTags;
+    private List<ReviewDto> reviews;
+    private Integer reviewCount;
+    private LocalDateTime lastReviewedAt;
+
+    public ProblemDto(ProblemQueryDto problem, List<ProblemTagDto> problemTags,
+        List<ReviewDto> reviews) {
+        this.problemId = problem.getProblemId();
+        this.problemTitle = problem.getTitle();
+        this.problemSite = problem.getSite();
+        this.problemUrl = problem.getUrl();
+        this.name = problem.getWriterName();
+        this.problemContent = problem.getContentText();
+        this.problemTags = problemTags;
+        this.reviews = reviews;
+        this.reviewCount = problem.getReviewCount();
+        this.lastReviewedAt = problem.getLastReviewedAt();
+    }
+}
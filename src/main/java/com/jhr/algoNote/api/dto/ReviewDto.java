@@ -0,0 +1,11 @@
+package com.jhr.algoNote.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReviewDto {
+
+    private String Title;
+}
@@ -4,15 +4,23 @@ import com.jhr.algoNote.exception.EmailRedundancyException;
 import com.jhr.algoNote.exception.RedundantTagNameException;
 import com.jhr.algoNote.exception.basic.UserException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+/**
+ * API 컨트롤러 예외 응답
+ * <p>
+ * 잘못된 요청 파라미터(타입 변환, 필수 파라미터 누락 등)는 ResponseEntityExceptionHandler 가 400 으로 응답한다.
+ */
 @Slf4j
-@RestControllerAdvice(basePackages = "com.jhr.algoNote.web")
-public class ExControllerAdvice {
+@RestControllerAdvice(basePackages = "com.jhr.algoNote.api")
+public class ExControllerAdvice extends ResponseEntityExceptionHandler {
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(IllegalArgumentException.class)
@@ -41,5 +49,15 @@ public class ExControllerAdvice {
         return new ErrorResult("EX", "내부 오류");
     }
 
+    @Override
+    protected ResponseEntity<Object> handleExceptionInternal(Exception ex, Object body,
+        HttpHeaders headers, HttpStatus status, WebRequest request) {
+        log.info("[exceptionHandler] ex", ex);
+        ErrorResult errorResult = status.is4xxClientError()
+            ? new ErrorResult("BAD", ex.getMessage())
+            : new ErrorResult("EX", "내부 오류");
+        return super.handleExceptionInternal(ex, errorResult, headers, status, request);
+    }
+
 
 }
@@ -0,0 +1,131 @@
+package com.jhr.algoNote.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter (thread-safe, lock-free)
+ * <p>
+ * mightContain 이 false 면 확실히 없는 값이고, true 면 있을 수도 있는 값이다. (오탐 확률 fpp)
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashes;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long numBits, int numHashes, long expectedInsertions) {
+        this.bits = new AtomicLongArray((int) ((numBits + 63) / 64));
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * @param expectedInsertions 예상 삽입 개수
+     * @param fpp                목표 오탐 확률 (0 ~ 1)
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("예상 삽입 개수는 1 이상이어야 합니다.");
+        }
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("오탐 확률은 0 과 1 사이여야 합니다.");
+        }
+        long numBits = (long) Math.ceil(
+            -expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int numHashes = Math.max(1,
+            (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(numBits, numHashes, expectedInsertions);
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < numHashes; i++) {
+            setBit(Math.floorMod(hash1 + i * hash2, numBits));
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < numHashes; i++) {
+            if (!getBit(Math.floorMod(hash1 + i * hash2, numBits))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 삽입 개수 기준 오탐 확률 (1 - e^(-kn/m))^k
+     */
+    public double expectedFpp() {
+        return Math.pow(1 - Math.exp(-(double) numHashes * insertions.get() / numBits),
+            numHashes);
+    }
+
+    /**
+     * 예상 삽입 개수를 넘어서 오탐 확률이 목표보다 높아진 상태
+     */
+    public boolean isSaturated() {
+        return insertions.get() > expectedInsertions;
+    }
+
+    public long getInsertions() {
+        return insertions.get();
+    }
+
+    public long getNumBits() {
+        return numBits;
+    }
+
+    public int getNumHashes() {
+        return numHashes;
+    }
+
+    /**
+     * 비트 배열 메모리 (byte)
+     */
+    public long memoryBytes() {
+        return bits.length() * 8L;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long old;
+        do {
+            old = bits.get(word);
+            if ((old & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, old, old | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    // FNV-1a 64bit
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return (z ^ (z >>> 31)) | 1L;
+    }
+}
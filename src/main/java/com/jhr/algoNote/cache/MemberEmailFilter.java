@@ -0,0 +1,187 @@
+package com.jhr.algoNote.cache;
+
+import com.jhr.algoNote.repository.MemberRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 가입된 회원 이메일 Bloom filter
+ * <p>
+ * 중복 이메일 검사, 이메일로 회원 조회에서 확실히 없는 이메일은 DB 조회를 생략하기 위해 사용한다. 시작 시 전체 이메일을
+ * 스트리밍으로 읽어 만들고, 가입 시 추가한다. 만들어지기 전에는 항상 "있을 수 있음" 으로 응답한다.
+ * <p>
+ * 포화되면 put 한 트랜잭션이 커밋된 후 별도 스레드에서 다시 만든다. DB 에서는 커밋된 이메일만 읽히므로, 아직 커밋되지 않은 가입과
+ * 다시 만드는 동안 추가된 이메일은 새 필터에 따로 넣는다. (없는 이메일로 답하면 안 되므로)
+ */
+@Slf4j
+@Component
+public class MemberEmailFilter {
+
+    static final double FPP = 0.01;
+    static final long MIN_CAPACITY = 1024;
+
+    private final MemberRepository memberRepository;
+    // 복제 DB 는 최근 가입이 없을 수 있으므로 읽기 전용으로 표시하지 않는다 (원본에서 읽음)
+    private final TransactionTemplate transaction;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "member-email-filter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final Object rebuildLock = new Object();
+
+    private volatile BloomFilter filter;
+    //커밋되지 않은 트랜잭션에서 put 한 이메일 (this 로 동기화)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    //다시 만드는 중에 put 한 이메일, 만드는 중이 아니면 null (this 로 동기화)
+    private Set<String> addedDuringRebuild;
+
+    public MemberEmailFilter(MemberRepository memberRepository,
+        PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * DB 의 전체 이메일로 다시 만든다. (호출한 스레드에서 실행, 별도 트랜잭션)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            List<String> pending;
+            synchronized (this) {
+                addedDuringRebuild = ConcurrentHashMap.newKeySet();
+                pending = new ArrayList<>(inFlight);
+            }
+
+            BloomFilter newFilter;
+            try {
+                newFilter = transaction.execute(status -> readAll());
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    addedDuringRebuild = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                pending.forEach(newFilter::put);
+                addedDuringRebuild.forEach(newFilter::put);
+                addedDuringRebuild = null;
+                filter = newFilter;
+            }
+            log.info("member email filter rebuilt (emails={}, bits={}, hashes={}, memory={}B, fpp={})",
+                newFilter.getInsertions(), newFilter.getNumBits(), newFilter.getNumHashes(),
+                newFilter.memoryBytes(), String.format("%.5f", newFilter.expectedFpp()));
+        }
+    }
+
+    private BloomFilter readAll() {
+        long count = memberRepository.count();
+        BloomFilter newFilter = BloomFilter.create(Math.max(count * 2, MIN_CAPACITY), FPP);
+        try (Stream<String> emails = memberRepository.streamEmails()) {
+            emails.forEach(newFilter::put);
+        }
+        return newFilter;
+    }
+
+    /**
+     * @return false 면 가입되지 않은 이메일
+     */
+    public boolean mightContain(String email) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(email);
+    }
+
+    public void put(String email) {
+        boolean saturated = false;
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        synchronized (this) {
+            if (inTransaction) {
+                inFlight.add(email);
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(email);
+            }
+            BloomFilter current = filter;
+            if (current != null) { // null 이면 rebuild 시 DB 에서 읽는다
+                current.put(email);
+                saturated = current.isSaturated();
+            }
+        }
+
+        if (!inTransaction) {
+            if (saturated) {
+                scheduleRebuild();
+            }
+            return;
+        }
+        boolean rebuildAfterCommit = saturated;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (rebuildAfterCommit) {
+                    scheduleRebuild();
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                inFlight.remove(email);
+            }
+        });
+    }
+
+    /**
+     * 예상 개수를 넘으면 오탐이 늘어나므로 두 배 크기로 다시 만든다. (이미 예약되어 있으면 무시)
+     */
+    private void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("member email filter rebuild failed", e);
+            } finally {
+                rebuildScheduled.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    public double expectedFpp() {
+        BloomFilter current = filter;
+        return current == null ? 1.0 : current.expectedFpp();
+    }
+
+    public long memoryBytes() {
+        BloomFilter current = filter;
+        return current == null ? 0 : current.memoryBytes();
+    }
+}
@@ -0,0 +1,52 @@
+package com.jhr.algoNote.cache;
+
+import com.jhr.algoNote.domain.Member;
+import com.jhr.algoNote.domain.Role;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * 로그인 처리에 사용하는 회원 정보 (불변)
+ * <p>
+ * 영속성 컨텍스트와 무관하므로 여러 요청(스레드)에서 공유해도 안전하다.
+ */
+@Getter
+public class MemberSnapshot {
+
+    private final Long id;
+    private final String name;
+    private final String email;
+    private final String picture;
+    private final Role role;
+
+    public MemberSnapshot(Long id, String name, String email, String picture, Role role) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.picture = picture;
+        this.role = role;
+    }
+
+    public MemberSnapshot(Member member) {
+        this(member.getId(), member.getName(), member.getEmail(), member.getPicture(),
+            member.getRole());
+    }
+
+    /**
+     * 이름, 사진이 같은지 비교
+     */
+    public boolean hasSameProfile(String name, String picture) {
+        return Objects.equals(this.name, name) && Objects.equals(this.picture, picture);
+    }
+
+    /**
+     * 이름, 사진만 변경된 새 스냅샷
+     */
+    public MemberSnapshot withProfile(String name, String picture) {
+        return new MemberSnapshot(id, name, email, picture, role);
+    }
+
+    public String getRoleKey() {
+        return role.getKey();
+    }
+}
@@ -0,0 +1,56 @@
+package com.jhr.algoNote.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import lombok.Getter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시 region 별 통계 (hibernate.generate_statistics 가 켜져 있어야 집계된다)
+ */
+@Component
+public class SecondLevelCacheStatistics {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public boolean isEnabled() {
+        return statistics.isStatisticsEnabled();
+    }
+
+    public List<RegionStats> getRegionStats() {
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+            .sorted()
+            .map(region -> new RegionStats(region, statistics.getDomainDataRegionStatistics(region)))
+            .collect(Collectors.toList());
+    }
+
+    @Getter
+    public static class RegionStats {
+
+        private final String region;
+        private final long hitCount;
+        private final long missCount;
+        private final long putCount;
+
+        RegionStats(String region, CacheRegionStatistics stats) {
+            this.region = region;
+            this.hitCount = stats.getHitCount();
+            this.missCount = stats.getMissCount();
+            this.putCount = stats.getPutCount();
+        }
+
+        public double getHitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+    }
+}
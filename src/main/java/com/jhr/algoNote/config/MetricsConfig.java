@@ -0,0 +1,21 @@
+package com.jhr.algoNote.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ * <p>
+ * 서비스 메서드는 @Timed 로 측정한다. (이름은 algonote. 으로 시작, 같은 클래스 안에서 호출하면 측정되지 않는다)
+ * HikariCP, Hibernate, JVM 메트릭은 actuator 가 등록한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
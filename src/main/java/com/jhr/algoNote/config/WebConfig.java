@@ -2,8 +2,13 @@ package com.jhr.algoNote.config;
 
 import com.jhr.algoNote.interceptor.LoginUserInterceptor;
 import com.jhr.algoNote.config.auth.LoginUserArgumentResolver;
+import com.jhr.algoNote.config.log.SqlStatistics;
+import com.jhr.algoNote.config.trace.RequestTracer;
 import com.jhr.algoNote.interceptor.SearchInterceptor;
+import com.jhr.algoNote.interceptor.SqlCountInterceptor;
+import com.jhr.algoNote.interceptor.TraceInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -15,6 +20,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     private final LoginUserArgumentResolver loginUserArgumentResolver;
+    //p6spy 리스너, 웹 슬라이스 테스트에는 없을 수 있다
+    private final ObjectProvider<SqlStatistics> sqlStatistics;
+    private final ObjectProvider<RequestTracer> requestTracer;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
@@ -23,6 +31,12 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        //요청 전체를 감싸도록 가장 먼저 등록, 관리자 화면은 추적하지 않는다
+        requestTracer.ifAvailable(tracer -> registry.addInterceptor(new TraceInterceptor(tracer))
+                .addPathPatterns("/**")
+                .excludePathPatterns("/css/**", "/images/**", "/js/**", "/h2-console/**", "/img/**")
+                .excludePathPatterns("/admin/**", "/actuator/**"));
+
         registry.addInterceptor(new SearchInterceptor())
                 .addPathPatterns("/**")
                 .excludePathPatterns("/css/**", "/images/**", "/js/**", "/h2-console/**", "/img/**")
@@ -34,5 +48,9 @@ public class WebConfig implements WebMvcConfigurer {
                 .excludePathPatterns("/css/**", "/images/**", "/js/**", "/h2-console/**", "/img/**")
                 .excludePathPatterns("/api/**")
                 .excludePathPatterns("/error", "/member/new");
+
+        sqlStatistics.ifAvailable(statistics -> registry.addInterceptor(new SqlCountInterceptor(statistics))
+                .addPathPatterns("/**")
+                .excludePathPatterns("/css/**", "/images/**", "/js/**", "/h2-console/**", "/img/**"));
     }
 }
\ No newline at end of file
@@ -1,12 +1,13 @@
 package com.jhr.algoNote.config.auth;
 
+import com.jhr.algoNote.cache.MemberEmailFilter;
+import com.jhr.algoNote.cache.MemberSnapshot;
 import com.jhr.algoNote.config.auth.dto.OAuthAttributes;
 import com.jhr.algoNote.config.auth.dto.SessionUser;
 import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.repository.MemberRepository;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import javax.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -25,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final MemberRepository memberRepository;
+    private final MemberEmailFilter memberEmailFilter;
     private final HttpSession httpSession;
 
     @Override
@@ -41,9 +43,12 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         // OAuth2UserService
         OAuthAttributes attributes = OAuthAttributes.of(registrationId, userNameAttributeName,
             oAuth2User.getAttributes());
-        Member member = saveOrUpdate(attributes);
-        httpSession.setAttribute("user",
-            new SessionUser(member)); // SessionUser (직렬화된 dto 클래스 사용)
+        MemberSnapshot member = saveOrUpdate(attributes);
+        SessionUser sessionUser = new SessionUser(member); // SessionUser (직렬화된 dto 클래스 사용)
+        // 같은 값이면 다시 넣지 않는다 (세션 저장소에 쓰기 발생 방지)
+        if (!sessionUser.equals(httpSession.getAttribute("user"))) {
+            httpSession.setAttribute("user", sessionUser);
+        }
 
         return new DefaultOAuth2User(
             Collections.singleton(new SimpleGrantedAuthority(member.getRoleKey())),
@@ -51,24 +56,29 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
             attributes.getNameAttributeKey());
     }
 
-    // 유저 생성 및 수정 서비스 로직
-    private Member saveOrUpdate(OAuthAttributes attributes) {
+    /**
+     * 유저 생성 및 수정 서비스 로직
+     * <p>
+     * DB 의 회원과 이름, 사진이 같으면 쓰기 없이 반환한다. 변경되었거나 신규 회원이면 upsert 문 1개로 반영한다.
+     * (인스턴스 로컬 캐시와 비교하면 다른 인스턴스가 수정한 정보를 놓칠 수 있으므로 항상 DB 와 비교)
+     */
+    private MemberSnapshot saveOrUpdate(OAuthAttributes attributes) {
+        String email = attributes.getEmail();
+        List<Member> results = memberRepository.findByEmail(email);
+        MemberSnapshot saved = results.isEmpty() ? null : new MemberSnapshot(results.get(0));
 
-        List<Member> results = memberRepository.findByEmail(attributes.getEmail());
+        if (saved != null && saved.hasSameProfile(attributes.getName(), attributes.getPicture())) {
+            return saved; // 변경 없음
+        }
 
-        Optional<Member> optMember = Optional.ofNullable(results.isEmpty() ? null : results.get(0));
-        // optMember 값이 비어있지 않은 경우 이름, 사진을 수정
-        // 비어있는 경우 attributes 값으로 새 Member 생성해서 넣어줌
-        Member member = optMember
-            .map(entity -> {
-                entity.updateName(attributes.getName());
-                entity.updatePicture(attributes.getPicture());
-                return entity;
-            })
-            .orElse(attributes.toEntity());
+        memberRepository.upsertByEmail(email, attributes.getName(), attributes.getPicture());
 
-        memberRepository.save(member);
-        return member;
+        if (saved != null) {
+            return saved.withProfile(attributes.getName(), attributes.getPicture());
+        }
+        // 신규 회원은 생성된 id 를 다시 조회
+        memberEmailFilter.put(email);
+        return new MemberSnapshot(memberRepository.findByEmail(email).get(0));
     }
 
-}
\ No newline at end of file
+}
@@ -2,9 +2,12 @@ package com.jhr.algoNote.config.auth;
 
 import com.jhr.algoNote.domain.Role;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 
 @RequiredArgsConstructor
@@ -23,12 +26,19 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
             .antMatchers("/", "/css/**", "/images/**", "/js/**", "/h2-console/**").permitAll()
             .antMatchers("/img/**").permitAll()
             .antMatchers("/member/new").permitAll() //회원가입은 전체허용
+            .antMatchers("/api/reviews/**", "/api/review-queue/**").authenticated() //로그인한 회원의 리뷰, 복습 목록
             .antMatchers("/api/**").permitAll() //api는 전체허용
             .antMatchers("/error").permitAll() //에러페이지 전체허용
-            .antMatchers("/admin", "/member").hasRole(Role.ADMIN.name()) // /admin, 회원조회는 ADMIN권한만 접근 가능
+            .antMatchers("/admin", "/admin/**", "/member").hasRole(Role.ADMIN.name()) // /admin, 회원조회는 ADMIN권한만 접근 가능
+            .antMatchers("/actuator/**").hasRole(Role.ADMIN.name()) // 메트릭(prometheus)도 ADMIN권한만 접근 가능
             .anyRequest()
             .authenticated() // anyRequest : 설정된 값들 이외 나머지 URL 나타냄, authenticated : 인증된 사용자
             .and()
+            .exceptionHandling()
+            // api 는 로그인 페이지로 redirect 하지 않고 401
+            .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                new AntPathRequestMatcher("/api/**"))
+            .and()
             .logout()
             .logoutSuccessUrl("/")
             .and()
@@ -1,22 +1,50 @@
 package com.jhr.algoNote.config.auth.dto;
 
+import com.jhr.algoNote.cache.MemberSnapshot;
 import com.jhr.algoNote.domain.Member;
+import com.jhr.algoNote.domain.Role;
 import java.io.Serializable;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.ToString;
 
 /**
  * 직렬화 기능을 가진 User클래스
+ * <p>
+ * 회원 id와 권한을 함께 보관하여 요청마다 회원을 다시 조회하지 않도록 한다.
  */
 @Getter
+@ToString
+@EqualsAndHashCode
 public class SessionUser implements Serializable {
 
+    private final Long id;
     private final String name;
     private final String email;
     private final String picture;
+    private final Role role;
+
+    public SessionUser(Long id, String name, String email, String picture, Role role) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.picture = picture;
+        this.role = role;
+    }
 
     public SessionUser(Member member) {
+        this.id = member.getId();
+        this.name = member.getName();
+        this.email = member.getEmail();
+        this.picture = member.getPicture();
+        this.role = member.getRole();
+    }
+
+    public SessionUser(MemberSnapshot member) {
+        this.id = member.getId();
         this.name = member.getName();
         this.email = member.getEmail();
         this.picture = member.getPicture();
+        this.role = member.getRole();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.jhr.algoNote.config.cache;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache, Ehcache 힙 저장소)
+ * <p>
+ * region 마다 최대 개수를 application.yml 의 algonote.cache.* 로 지정한다. 설정하지 않은 region 을 쓰는 엔티티가 있으면
+ * 시작할 때 실패한다. (hibernate.javax.cache.missing_cache_strategy: fail)
+ * <ul>
+ *     <li>tag : 태그는 생성 후 변경되지 않으므로 READ_ONLY</li>
+ *     <li>member : 이름, 사진만 가끔 수정되므로 READ_WRITE, 다른 인스턴스의 수정을 반영하도록 만료 시간을 둔다</li>
+ * </ul>
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String TAG_REGION = "tag";
+    public static final String MEMBER_REGION = "member";
+
+    //테스트에서 컨텍스트가 여러 개 떠 있을 수 있으므로 컨텍스트마다 CacheManager 를 따로 만든다
+    private static final AtomicInteger managers = new AtomicInteger();
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+        @Value("${algonote.cache.tag.max-entries:10000}") long tagMaxEntries,
+        @Value("${algonote.cache.member.max-entries:10000}") long memberMaxEntries,
+        @Value("${algonote.cache.member.time-to-live:1h}") Duration memberTimeToLive) {
+
+        org.ehcache.config.Configuration configuration = ConfigurationBuilder.newConfigurationBuilder()
+            .withCache(TAG_REGION, CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                Object.class, Object.class, ResourcePoolsBuilder.heap(tagMaxEntries)))
+            .withCache(MEMBER_REGION, CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                    Object.class, Object.class, ResourcePoolsBuilder.heap(memberMaxEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(memberTimeToLive)))
+            .build();
+
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+            EhcacheCachingProvider.class.getName());
+        return provider.getCacheManager(
+            URI.create("urn:algonote:second-level-cache:" + managers.incrementAndGet()), configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -0,0 +1,27 @@
+package com.jhr.algoNote.config.db;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마 마이그레이션 설정
+ * <p>
+ * 스키마는 db/migration 의 버전별 스크립트로만 변경하고, JPA 는 매핑 검증(ddl-auto: validate)만 한다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * DB 를 비운 뒤 처음부터 마이그레이션 (테스트 전용, ddl-auto: create 대체)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "algonote.flyway.clean-before-migrate", havingValue = "true")
+    public FlywayMigrationStrategy cleanMigrationStrategy() {
+        return flyway -> {
+            flyway.clean();
+            flyway.migrate();
+        };
+    }
+}
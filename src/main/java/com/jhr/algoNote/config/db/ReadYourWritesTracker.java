@@ -0,0 +1,75 @@
+package com.jhr.algoNote.config.db;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 최근에 쓰기를 한 회원 (read-your-writes)
+ * <p>
+ * 문제 등록, 수정, 삭제, 리뷰 작성, 삭제 후 sticky-window 동안 그 회원의 읽기 전용 트랜잭션은 복제 DB 대신 원본을 사용한다. 복제가
+ * 늦어도 방금 저장한 내용이 보이도록 하기 위함이다. 트랜잭션 안에서 호출하면 커밋 후부터 시간을 센다.
+ * <p>
+ * 애플리케이션 인스턴스 안에서만 유효하다. (여러 인스턴스면 세션 고정이 필요)
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    //만료된 항목은 조회할 때 지우고, 이 개수를 넘으면 한번에 정리한다
+    static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final ConcurrentMap<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(
+        @Value("${algonote.datasource.replica.sticky-window:5s}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void markWrite(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        doMark(memberId);
+                    }
+                });
+        } else {
+            doMark(memberId);
+        }
+    }
+
+    /**
+     * @return 회원이 sticky-window 안에 쓰기를 했으면 true (원본 DB 를 사용해야 한다)
+     */
+    public boolean isSticky(Long memberId) {
+        if (memberId == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(memberId);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until < 0) {
+            return true;
+        }
+        stickyUntil.remove(memberId, until);
+        return false;
+    }
+
+    private void doMark(Long memberId) {
+        long now = System.nanoTime();
+        stickyUntil.put(memberId, now + windowNanos);
+        if (stickyUntil.size() > CLEANUP_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> now - until >= 0);
+        }
+    }
+}
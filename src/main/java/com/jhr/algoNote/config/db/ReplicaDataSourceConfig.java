@@ -0,0 +1,77 @@
+package com.jhr.algoNote.config.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 원본 / 복제 DB 분리 (algonote.datasource.replica.enabled: true 일 때만)
+ * <p>
+ * 원본은 spring.datasource.*, 복제 DB 는 algonote.datasource.replica.* 로 커넥션 풀을 따로 만든다. JPA, Flyway, 세션은
+ * ReplicaRoutingDataSource 를 사용하므로 읽기 전용 트랜잭션만 복제 DB 로 간다. (p6spy 는 라우팅 DataSource 에만 적용)
+ */
+@Configuration
+@ConditionalOnProperty(name = "algonote.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+        @Value("${algonote.datasource.replica.url}") String url,
+        @Value("${algonote.datasource.replica.username:${spring.datasource.username:}}") String username,
+        @Value("${algonote.datasource.replica.password:${spring.datasource.password:}}") String password,
+        @Value("${algonote.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        @Value("${algonote.datasource.replica.max-lag:2s}") Duration maxLag) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWrites,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource,
+            replicaDataSource, replicaLagMonitor, readYourWrites);
+        routing.afterPropertiesSet();
+        meterRegistry.ifAvailable(routing::bindTo);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
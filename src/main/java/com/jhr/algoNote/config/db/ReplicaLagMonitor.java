@@ -0,0 +1,73 @@
+package com.jhr.algoNote.config.db;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 복제 DB 지연 측정 (replica_heartbeat)
+ * <p>
+ * 주기마다 원본에 현재 시각을 기록하고 복제 DB 의 값을 읽어 지연을 계산한다. 지연이 max-lag 을 넘거나 복제 DB 에 접속할 수
+ * 없으면 읽기도 원본으로 보낸다. 복제 DB 는 한 주기 전 값을 가지고 있을 수 있으므로 max-lag 은 heartbeat-interval 보다
+ * 커야 한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String WRITE_HEARTBEAT = "update replica_heartbeat set beat_at = ? where id = 1";
+    static final String READ_HEARTBEAT = "select beat_at from replica_heartbeat where id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+
+    //측정 전이거나 실패하면 -1
+    private volatile long lagMillis = -1;
+    private volatile boolean available;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${algonote.datasource.replica.heartbeat-interval:1000}")
+    public void check() {
+        long now = System.currentTimeMillis();
+        try {
+            primary.update(WRITE_HEARTBEAT, now);
+            Long beatAt = replica.queryForObject(READ_HEARTBEAT, Long.class);
+            update(beatAt == null ? -1 : Math.max(0, now - beatAt));
+        } catch (DataAccessException e) {
+            if (available) {
+                log.warn("복제 DB 지연을 확인할 수 없어 읽기를 원본으로 보냅니다. ({})", e.getMessage());
+            }
+            update(-1);
+        }
+    }
+
+    void update(long lagMillis) {
+        boolean nowAvailable = lagMillis >= 0 && lagMillis <= maxLagMillis;
+        if (available && !nowAvailable && lagMillis >= 0) {
+            log.warn("복제 지연 {}ms 가 {}ms 를 넘어 읽기를 원본으로 보냅니다.", lagMillis, maxLagMillis);
+        } else if (!available && nowAvailable) {
+            log.info("복제 지연 {}ms, 읽기 전용 트랜잭션을 복제 DB 로 보냅니다.", lagMillis);
+        }
+        this.lagMillis = lagMillis;
+        this.available = nowAvailable;
+    }
+
+    /**
+     * @return 복제 DB 를 읽기에 사용할 수 있으면 true (첫 측정 전에는 false)
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -0,0 +1,102 @@
+package com.jhr.algoNote.config.db;
+
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 읽기 전용 트랜잭션은 복제 DB, 나머지는 원본으로 보내는 DataSource
+ * <p>
+ * 트랜잭션 시작 후 첫 쿼리에서 커넥션을 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다. (트랜잭션 시작 시점에는
+ * readOnly 여부가 아직 등록되지 않았다) 읽기 전용이어도 다음 경우는 원본을 사용한다.
+ * <ul>
+ *     <li>복제 지연이 max-lag 을 넘거나 복제 DB 에 접속할 수 없을 때 (ReplicaLagMonitor)</li>
+ *     <li>로그인한 회원이 방금 문제, 리뷰를 저장했을 때 (ReadYourWritesTracker)</li>
+ * </ul>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder {
+
+    enum Route {
+        PRIMARY, //쓰기 또는 트랜잭션 밖
+        REPLICA,
+        PRIMARY_LAGGING, //읽기 전용이지만 복제 지연
+        PRIMARY_STICKY //읽기 전용이지만 방금 쓰기를 한 회원
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Map<Route, LongAdder> routed = new EnumMap<>(Route.class);
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+        ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWrites) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        Map<Object, Object> targets = new EnumMap<>(Route.class);
+        for (Route route : Route.values()) {
+            targets.put(route, route == Route.REPLICA ? replica : primary);
+            routed.put(route, new LongAdder());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = route();
+        routed.get(route).increment();
+        return route;
+    }
+
+    Route route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        if (!lagMonitor.isAvailable()) {
+            return Route.PRIMARY_LAGGING;
+        }
+        if (readYourWrites.isSticky(currentMemberId())) {
+            return Route.PRIMARY_STICKY;
+        }
+        return Route.REPLICA;
+    }
+
+    /**
+     * @return 요청 스레드가 아니거나 로그인하지 않았으면 null
+     */
+    private static Long currentMemberId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object user = attributes.getAttribute("user", RequestAttributes.SCOPE_SESSION);
+        return user instanceof SessionUser ? ((SessionUser) user).getId() : null;
+    }
+
+    long getRoutedCount(Route route) {
+        return routed.get(route).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Route route : Route.values()) {
+            FunctionCounter.builder("algonote.datasource.routing", routed.get(route), LongAdder::sum)
+                .tag("route", route.name().toLowerCase())
+                .description("커넥션을 가져온 DB (트랜잭션마다 1번)")
+                .register(registry);
+        }
+        Gauge.builder("algonote.datasource.replica.lag", lagMonitor, ReplicaLagMonitor::getLagMillis)
+            .baseUnit("milliseconds")
+            .description("복제 지연, 측정 실패시 -1")
+            .register(registry);
+    }
+}
@@ -0,0 +1,28 @@
+package com.jhr.algoNote.config.log;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 값만 다른 SQL 을 같은 문장으로 묶기 위한 정규화
+ * <p>
+ * 소문자 변환, 문자열/숫자 리터럴 → ?, 공백 정리, IN (?, ?, ...) → IN (...)
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String s = sql.trim().toLowerCase(Locale.ROOT);
+        s = STRING.matcher(s).replaceAll("?");
+        s = NUMBER.matcher(s).replaceAll("?");
+        s = WHITESPACE.matcher(s).replaceAll(" ");
+        return IN_LIST.matcher(s).replaceAll("in (...)");
+    }
+}
@@ -0,0 +1,297 @@
+package com.jhr.algoNote.config.log;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL 실행 통계 (p6spy 이벤트, 로그 설정과 상관없이 항상 수집)
+ * <p>
+ * 문장은 SqlFingerprint 로 묶어 횟수, 총 시간, 지연 분포를 기록한다. HTTP 요청 안에서 실행된 문장은 요청별로도 세고, 같은
+ * 문장이 임계값보다 많이 반복된 요청은 N+1 의심으로 기록한다. (요청 범위는 SqlCountInterceptor 가 지정)
+ * <p>
+ * 전체 문장 수, N+1 의심 요청 수는 메트릭으로도 노출한다. 메트릭은 reset 과 상관없이 계속 증가하는 값을 따로 센다.
+ * (Prometheus counter 는 줄어들면 안 되므로, reset 은 관리자 화면 통계만 지운다)
+ */
+@Slf4j
+@Component
+public class SqlStatistics extends JdbcEventListener implements MeterBinder {
+
+    static final int MAX_FINGERPRINTS = 500;
+    static final String OTHER = "(other)";
+    private static final int MAX_CACHED_SQL = 2_000;
+    private static final int MAX_RECENT_N_PLUS_ONE = 20;
+
+    private final int nPlusOneThreshold;
+
+    //원본 SQL → fingerprint (정규화 비용을 한번만)
+    private final ConcurrentMap<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestStats> currentRequest = new ThreadLocal<>();
+
+    private volatile ConcurrentHistogram statementsPerRequest = new ConcurrentHistogram();
+    private final LongAdder nPlusOneRequests = new LongAdder();
+    private final Deque<NPlusOne> recentNPlusOne = new ConcurrentLinkedDeque<>();
+
+    //메트릭 (reset 하지 않음)
+    private final LongAdder totalStatements = new LongAdder();
+    private final LongAdder totalNPlusOneRequests = new LongAdder();
+
+    public SqlStatistics(@Value("${algonote.sql.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos,
+        SQLException e) {
+        record(statementInformation.getSql(), timeElapsedNanos, e != null);
+    }
+
+    void record(String sql, long elapsedNanos, boolean failed) {
+        if (sql == null || sql.isBlank()) {
+            return;
+        }
+        String fingerprint = fingerprintOf(sql);
+        StatementStats stats = statements.get(fingerprint);
+        if (stats == null) {
+            //fingerprint 종류가 너무 많으면(동적 SQL) 하나로 묶는다
+            String key = statements.size() < MAX_FINGERPRINTS ? fingerprint : OTHER;
+            stats = statements.computeIfAbsent(key, StatementStats::new);
+        }
+        stats.record(elapsedNanos, failed);
+        totalStatements.increment();
+
+        RequestStats request = currentRequest.get();
+        if (request != null) {
+            request.add(fingerprint);
+        }
+    }
+
+    private String fingerprintOf(String sql) {
+        String fingerprint = fingerprints.get(sql);
+        if (fingerprint == null) {
+            fingerprint = SqlFingerprint.of(sql);
+            if (fingerprints.size() < MAX_CACHED_SQL) {
+                fingerprints.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("algonote.sql.statements", totalStatements, LongAdder::sum)
+            .description("실행된 SQL 문장 수")
+            .register(registry);
+        FunctionCounter.builder("algonote.sql.n_plus_one.requests", totalNPlusOneRequests, LongAdder::sum)
+            .description("같은 문장이 임계값보다 많이 실행된 요청 수")
+            .register(registry);
+    }
+
+    // == 요청 범위 == //
+
+    public void beginRequest() {
+        currentRequest.set(new RequestStats());
+    }
+
+    /**
+     * 요청 종료, 같은 문장이 임계값보다 많이 실행됐으면 N+1 로 기록
+     *
+     * @param request 로그에 남길 요청 정보 (예: GET /problems)
+     * @return 요청에서 실행된 문장 수, 시작하지 않았으면 -1
+     */
+    public int endRequest(String request) {
+        RequestStats stats = currentRequest.get();
+        currentRequest.remove();
+        if (stats == null) {
+            return -1;
+        }
+        statementsPerRequest.record(stats.count);
+
+        Map.Entry<String, Integer> mostRepeated = stats.mostRepeated();
+        if (mostRepeated != null && mostRepeated.getValue() > nPlusOneThreshold) {
+            nPlusOneRequests.increment();
+            totalNPlusOneRequests.increment();
+            recentNPlusOne.addFirst(new NPlusOne(LocalDateTime.now(), request,
+                mostRepeated.getKey(), mostRepeated.getValue(), stats.count));
+            while (recentNPlusOne.size() > MAX_RECENT_N_PLUS_ONE) {
+                recentNPlusOne.pollLast();
+            }
+            log.warn("N+1 의심 ({}) - 같은 쿼리 {}번 / 전체 {}번 : {}", request,
+                mostRepeated.getValue(), stats.count, mostRepeated.getKey());
+        }
+        return stats.count;
+    }
+
+    // == 조회 == //
+
+    /**
+     * 총 실행 시간이 긴 순서로 limit 개
+     */
+    public List<StatementSnapshot> getTopStatements(int limit) {
+        return statements.values().stream()
+            .map(StatementStats::snapshot)
+            .sorted(Comparator.comparingLong(StatementSnapshot::getTotalMicros).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 시작 후 전체 문장 수 (reset 과 상관없음)
+     */
+    public long getTotalStatements() {
+        return totalStatements.sum();
+    }
+
+    public RequestSnapshot getRequestStats() {
+        ConcurrentHistogram perRequest = statementsPerRequest;
+        return new RequestSnapshot(perRequest.getCount(),
+            perRequest.getValueAtQuantile(0.5),
+            perRequest.getValueAtQuantile(0.99),
+            perRequest.getMax(),
+            nPlusOneRequests.sum(), nPlusOneThreshold, new ArrayList<>(recentNPlusOne));
+    }
+
+    /**
+     * 관리자 화면 통계만 지운다 (메트릭은 계속 증가)
+     */
+    public void reset() {
+        statements.clear();
+        statementsPerRequest = new ConcurrentHistogram();
+        nPlusOneRequests.reset();
+        recentNPlusOne.clear();
+    }
+
+    // == 내부 클래스 == //
+
+    /**
+     * fingerprint 별 누적 통계 (지연은 µs 단위로 기록)
+     */
+    static class StatementStats {
+
+        private final String fingerprint;
+        private final ConcurrentHistogram latency = new ConcurrentHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        StatementStats(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        void record(long elapsedNanos, boolean failed) {
+            latency.record(elapsedNanos / 1_000);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        StatementSnapshot snapshot() {
+            return new StatementSnapshot(fingerprint, latency.getCount(), errors.sum(),
+                latency.getSum(), (long) latency.getMean(), latency.getValueAtQuantile(0.99),
+                latency.getMax());
+        }
+    }
+
+    /**
+     * 요청 하나의 문장 수 (요청 스레드에서만 사용)
+     */
+    private static class RequestStats {
+
+        private final Map<String, Integer> counts = new HashMap<>();
+        private int count;
+
+        void add(String fingerprint) {
+            count++;
+            counts.merge(fingerprint, 1, Integer::sum);
+        }
+
+        Map.Entry<String, Integer> mostRepeated() {
+            return counts.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+        }
+    }
+
+    @Getter
+    public static class StatementSnapshot {
+
+        private final String fingerprint;
+        private final long count;
+        private final long errors;
+        private final long totalMicros;
+        private final long meanMicros;
+        private final long p99Micros;
+        private final long maxMicros;
+
+        StatementSnapshot(String fingerprint, long count, long errors, long totalMicros,
+            long meanMicros, long p99Micros, long maxMicros) {
+            this.fingerprint = fingerprint;
+            this.count = count;
+            this.errors = errors;
+            this.totalMicros = totalMicros;
+            this.meanMicros = meanMicros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+        }
+    }
+
+    @Getter
+    public static class RequestSnapshot {
+
+        private final long requests;
+        private final long p50Statements;
+        private final long p99Statements;
+        private final long maxStatements;
+        private final long suspectedRequests;
+        private final int threshold;
+        private final List<NPlusOne> recentSuspects;
+
+        RequestSnapshot(long requests, long p50Statements, long p99Statements, long maxStatements,
+            long suspectedRequests, int threshold, List<NPlusOne> recentSuspects) {
+            this.requests = requests;
+            this.p50Statements = p50Statements;
+            this.p99Statements = p99Statements;
+            this.maxStatements = maxStatements;
+            this.suspectedRequests = suspectedRequests;
+            this.threshold = threshold;
+            this.recentSuspects = recentSuspects;
+        }
+    }
+
+    @Getter
+    public static class NPlusOne {
+
+        private final LocalDateTime time;
+        private final String request;
+        private final String fingerprint;
+        private final int repeated;
+        private final int statements;
+
+        NPlusOne(LocalDateTime time, String request, String fingerprint, int repeated,
+            int statements) {
+            this.time = time;
+            this.request = request;
+            this.fingerprint = fingerprint;
+            this.repeated = repeated;
+            this.statements = statements;
+        }
+    }
+}
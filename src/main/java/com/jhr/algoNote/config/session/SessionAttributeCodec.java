@@ -0,0 +1,93 @@
+package com.jhr.algoNote.config.session;
+
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.domain.Role;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+
+/**
+ * 세션 속성 직렬화
+ * <p>
+ * 요청마다 읽는 SessionUser 는 필드만 기록하는 전용 형식(약 60 byte)으로, 나머지 속성(SecurityContext 등)은 자바 직렬화로
+ * 저장한다. 첫 1 byte 가 형식을 나타낸다.
+ */
+public class SessionAttributeCodec implements Serializer<Object>, Deserializer<Object> {
+
+    static final byte JAVA = 0;
+    static final byte SESSION_USER = 1;
+
+    private final DefaultSerializer javaSerializer = new DefaultSerializer();
+    private final DefaultDeserializer javaDeserializer;
+
+    public SessionAttributeCodec(ClassLoader classLoader) {
+        this.javaDeserializer = new DefaultDeserializer(classLoader);
+    }
+
+    @Override
+    public void serialize(Object object, OutputStream outputStream) throws IOException {
+        if (object instanceof SessionUser) {
+            outputStream.write(SESSION_USER);
+            writeSessionUser((SessionUser) object, new DataOutputStream(outputStream));
+            return;
+        }
+        outputStream.write(JAVA);
+        javaSerializer.serialize(object, outputStream);
+    }
+
+    @Override
+    public Object deserialize(InputStream inputStream) throws IOException {
+        int type = inputStream.read();
+        if (type == SESSION_USER) {
+            return readSessionUser(new DataInputStream(inputStream));
+        }
+        if (type == JAVA) {
+            return javaDeserializer.deserialize(inputStream);
+        }
+        throw new IOException("알 수 없는 세션 속성 형식입니다. (type=" + type + ")");
+    }
+
+    @Override
+    public Object deserializeFromByteArray(byte[] serialized) throws IOException {
+        return deserialize(new ByteArrayInputStream(serialized));
+    }
+
+    private void writeSessionUser(SessionUser user, DataOutputStream out) throws IOException {
+        out.writeBoolean(user.getId() != null);
+        if (user.getId() != null) {
+            out.writeLong(user.getId());
+        }
+        out.writeUTF(user.getName());
+        out.writeUTF(user.getEmail());
+        writeNullableUTF(user.getPicture(), out);
+        writeNullableUTF(user.getRole() == null ? null : user.getRole().name(), out);
+        out.flush();
+    }
+
+    private SessionUser readSessionUser(DataInputStream in) throws IOException {
+        Long id = in.readBoolean() ? in.readLong() : null;
+        String name = in.readUTF();
+        String email = in.readUTF();
+        String picture = readNullableUTF(in);
+        String role = readNullableUTF(in);
+        return new SessionUser(id, name, email, picture, role == null ? null : Role.valueOf(role));
+    }
+
+    private void writeNullableUTF(String value, DataOutputStream out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readNullableUTF(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.jhr.algoNote.config.session;
+
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+/**
+ * 세션 저장소 설정
+ * <p>
+ * 저장소는 spring.session.store-type 으로 선택한다. (jdbc: DB 저장, none: 톰캣 메모리 세션,
+ * server.servlet.session.persistent 로 종료 시 파일 저장)
+ */
+@Configuration
+public class SessionConfig implements BeanClassLoaderAware {
+
+    private ClassLoader classLoader;
+
+    /**
+     * spring-session-jdbc 가 세션 속성을 byte[] 로 변환할 때 사용
+     */
+    @Bean("springSessionConversionService")
+    public ConversionService springSessionConversionService() {
+        SessionAttributeCodec codec = new SessionAttributeCodec(classLoader);
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class,
+            new SerializingConverter(codec));
+        conversionService.addConverter(byte[].class, Object.class,
+            new DeserializingConverter(codec));
+        return conversionService;
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+}
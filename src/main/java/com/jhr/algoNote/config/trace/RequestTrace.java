@@ -0,0 +1,218 @@
+package com.jhr.algoNote.config.trace;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 하나의 구간(span) 기록
+ * <p>
+ * 요청 스레드에서만 기록하고(ThreadLocal), finish 후에는 변경하지 않는다. span 은 시작 순서대로 쌓이고 depth 로 중첩을
+ * 표현한다. span 이 maxSpans 를 넘으면 더 기록하지 않고 개수만 센다.
+ */
+public class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    private static final AtomicLong ids = new AtomicLong();
+
+    private final long id;
+    private final String request;
+    private final LocalDateTime startedAt;
+    private final long startNanos;
+    private final int maxSpans;
+    private final List<Span> spans = new ArrayList<>();
+
+    private int depth;
+    private int droppedSpans;
+    private long durationNanos;
+    private int status;
+
+    RequestTrace(String request, int maxSpans) {
+        this.id = ids.incrementAndGet();
+        this.request = request;
+        this.startedAt = LocalDateTime.now();
+        this.startNanos = System.nanoTime();
+        this.maxSpans = maxSpans;
+    }
+
+    /**
+     * @return 추적 중인 요청이 아니면 null
+     */
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    static void setCurrent(RequestTrace trace) {
+        if (trace == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(trace);
+        }
+    }
+
+    /**
+     * 구간 시작, try-with-resources 로 닫는다
+     */
+    public Span start(Category category, String name) {
+        Span span = new Span(this, category, name, System.nanoTime() - startNanos, depth);
+        add(span);
+        depth++;
+        return span;
+    }
+
+    /**
+     * 이미 끝난 구간 기록 (SQL 처럼 끝난 뒤 소요 시간을 알게 되는 경우)
+     */
+    public void record(Category category, String name, long elapsedNanos, String detail) {
+        long offset = Math.max(0, System.nanoTime() - startNanos - elapsedNanos);
+        Span span = new Span(this, category, name, offset, depth);
+        span.durationNanos = elapsedNanos;
+        span.detail = detail;
+        add(span);
+    }
+
+    private void add(Span span) {
+        if (spans.size() < maxSpans) {
+            spans.add(span);
+        } else {
+            droppedSpans++;
+        }
+    }
+
+    private void end(Span span) {
+        if (span.durationNanos < 0) {
+            span.durationNanos = System.nanoTime() - startNanos - span.offsetNanos;
+            depth--;
+        }
+    }
+
+    void finish(int status) {
+        this.durationNanos = System.nanoTime() - startNanos;
+        this.status = status;
+        for (Span span : spans) {
+            //닫지 않은 span (예외) 은 요청 끝까지로 본다
+            if (span.durationNanos < 0) {
+                span.durationNanos = durationNanos - span.offsetNanos;
+            }
+        }
+    }
+
+    // == 조회 == //
+
+    public long getId() {
+        return id;
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getDurationMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(durationNanos);
+    }
+
+    public List<Span> getSpans() {
+        return Collections.unmodifiableList(spans);
+    }
+
+    public int getDroppedSpans() {
+        return droppedSpans;
+    }
+
+    public long getSqlCount() {
+        return spans.stream().filter(span -> span.category == Category.SQL).count();
+    }
+
+    /**
+     * SQL 실행 시간 합계 (렌더링 중 지연 로딩 포함)
+     */
+    public long getSqlMicros() {
+        return spans.stream()
+            .filter(span -> span.category == Category.SQL)
+            .mapToLong(Span::getDurationMicros)
+            .sum();
+    }
+
+    public long getCacheCount() {
+        return spans.stream().filter(span -> span.category == Category.CACHE).count();
+    }
+
+    public enum Category {
+        CONTROLLER, SERVICE, SQL, CACHE, RENDER
+    }
+
+    public static class Span implements AutoCloseable {
+
+        private final RequestTrace trace;
+        private final Category category;
+        private final String name;
+        private final long offsetNanos;
+        private final int depth;
+        private long durationNanos = -1;
+        private String detail;
+
+        private Span(RequestTrace trace, Category category, String name, long offsetNanos, int depth) {
+            this.trace = trace;
+            this.category = category;
+            this.name = name;
+            this.offsetNanos = offsetNanos;
+            this.depth = depth;
+        }
+
+        public void setDetail(String detail) {
+            this.detail = detail;
+        }
+
+        @Override
+        public void close() {
+            trace.end(this);
+        }
+
+        public Category getCategory() {
+            return category;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public long getStartMicros() {
+            return TimeUnit.NANOSECONDS.toMicros(offsetNanos);
+        }
+
+        public long getDurationMicros() {
+            return TimeUnit.NANOSECONDS.toMicros(Math.max(durationNanos, 0));
+        }
+
+        /**
+         * waterfall 표시용, 요청 전체 시간 대비 시작 위치, 길이 (%)
+         */
+        public double getOffsetPercent() {
+            return trace.durationNanos == 0 ? 0 : offsetNanos * 100.0 / trace.durationNanos;
+        }
+
+        public double getWidthPercent() {
+            return trace.durationNanos == 0 ? 0
+                : Math.max(durationNanos, 0) * 100.0 / trace.durationNanos;
+        }
+    }
+}
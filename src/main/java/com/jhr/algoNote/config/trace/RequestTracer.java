@@ -0,0 +1,132 @@
+package com.jhr.algoNote.config.trace;
+
+import com.jhr.algoNote.domain.Role;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 추적 (프로세스 안에서만, 최근 capacity 개를 보관)
+ * <p>
+ * ADMIN 권한으로 로그인한 요청의 X-AlgoNote-Trace: true 헤더, 설정한 secret 과 같은 헤더 값(부하 테스트처럼 로그인하지
+ * 않는 클라이언트용)이 있거나 관리자 화면에서 켜면 추적한다. 그 외의 헤더는 무시한다. (누구나 보관 공간을 채우지 못하도록)
+ * <p>
+ * 구간은 TraceInterceptor(컨트롤러, 렌더링), TraceAspect(서비스), TraceSqlListener(SQL),
+ * TraceSessionEventListener(2차 캐시) 가 기록한다.
+ */
+@Slf4j
+@Component
+public class RequestTracer {
+
+    public static final String HEADER = "X-AlgoNote-Trace";
+
+    private final int capacity;
+    private final int maxSpans;
+    private final byte[] secret;
+    private final Deque<RequestTrace> recent = new ArrayDeque<>();
+
+    private volatile boolean enabled;
+
+    public RequestTracer(@Value("${algonote.trace.capacity:50}") int capacity,
+        @Value("${algonote.trace.max-spans:2000}") int maxSpans,
+        @Value("${algonote.trace.secret:}") String secret) {
+        this.capacity = capacity;
+        this.maxSpans = maxSpans;
+        this.secret = secret.isEmpty() ? null : secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public boolean shouldTrace(HttpServletRequest request) {
+        if (enabled) {
+            return true;
+        }
+        String header = request.getHeader(HEADER);
+        if (header == null) {
+            return false;
+        }
+        if (secret != null && MessageDigest.isEqual(secret, header.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        return "true".equalsIgnoreCase(header) && request.isUserInRole(Role.ADMIN.name());
+    }
+
+    /**
+     * 현재 스레드에서 추적 시작
+     *
+     * @param request 요청 정보 (예: GET /problems)
+     */
+    public RequestTrace begin(String request) {
+        RequestTrace trace = new RequestTrace(request, maxSpans);
+        RequestTrace.setCurrent(trace);
+        return trace;
+    }
+
+    /**
+     * 현재 스레드의 추적을 끝내고 보관
+     */
+    public void finish(int status) {
+        RequestTrace trace = RequestTrace.current();
+        RequestTrace.setCurrent(null);
+        if (trace == null) {
+            return;
+        }
+        trace.finish(status);
+        synchronized (recent) {
+            recent.addFirst(trace);
+            while (recent.size() > capacity) {
+                recent.pollLast();
+            }
+        }
+        log.debug("trace {} {} - {}µs, sql {}", trace.getId(), trace.getRequest(),
+            trace.getDurationMicros(), trace.getSqlCount());
+    }
+
+    /**
+     * 최근 추적, 최신 순
+     */
+    public List<RequestTrace> getRecent(int limit) {
+        synchronized (recent) {
+            List<RequestTrace> traces = new ArrayList<>(Math.min(limit, recent.size()));
+            for (RequestTrace trace : recent) {
+                if (traces.size() >= limit) {
+                    break;
+                }
+                traces.add(trace);
+            }
+            return traces;
+        }
+    }
+
+    /**
+     * @return 보관 중인 추적에 없으면 null
+     */
+    public RequestTrace find(long id) {
+        synchronized (recent) {
+            return recent.stream()
+                .filter(trace -> trace.getId() == id)
+                .findFirst()
+                .orElse(null);
+        }
+    }
+
+    public void clear() {
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        log.info("모든 요청 추적 {}", enabled ? "시작" : "중지");
+    }
+}
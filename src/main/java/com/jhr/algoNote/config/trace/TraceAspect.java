@@ -0,0 +1,34 @@
+package com.jhr.algoNote.config.trace;
+
+import com.jhr.algoNote.config.trace.RequestTrace.Category;
+import com.jhr.algoNote.config.trace.RequestTrace.Span;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추적 중인 요청의 서비스 호출을 구간으로 기록
+ * <p>
+ * 프록시를 거치는 호출만 기록된다. (같은 클래스 안에서 호출한 메서드는 호출한 메서드 구간에 포함)
+ */
+@Aspect
+@Component
+public class TraceAspect {
+
+    @Around("execution(public * com.jhr.algoNote.service..*(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return joinPoint.proceed();
+        }
+        try (Span ignored = trace.start(Category.SERVICE, nameOf(joinPoint))) {
+            return joinPoint.proceed();
+        }
+    }
+
+    private static String nameOf(ProceedingJoinPoint joinPoint) {
+        return joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+            + joinPoint.getSignature().getName();
+    }
+}
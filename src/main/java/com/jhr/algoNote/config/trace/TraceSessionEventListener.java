@@ -0,0 +1,28 @@
+package com.jhr.algoNote.config.trace;
+
+import com.jhr.algoNote.config.trace.RequestTrace.Category;
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * 추적 중인 요청의 2차 캐시 조회를 구간으로 기록
+ * <p>
+ * Hibernate 가 세션마다 생성한다. (hibernate.session.events.auto)
+ */
+public class TraceSessionEventListener extends BaseSessionEventListener {
+
+    private long cacheGetStart;
+
+    @Override
+    public void cacheGetStart() {
+        cacheGetStart = System.nanoTime();
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.record(Category.CACHE, "2차 캐시", System.nanoTime() - cacheGetStart,
+                hit ? "hit" : "miss");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.jhr.algoNote.config.trace;
+
+import com.jhr.algoNote.config.trace.RequestTrace.Category;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import java.sql.SQLException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추적 중인 요청의 SQL 을 구간으로 기록 (p6spy 이벤트)
+ */
+@Component
+public class TraceSqlListener extends JdbcEventListener {
+
+    static final int MAX_SQL_LENGTH = 500;
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos,
+        SQLException e) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return;
+        }
+        String sql = statementInformation.getSql();
+        if (sql == null || sql.isBlank()) {
+            return;
+        }
+        if (sql.length() > MAX_SQL_LENGTH) {
+            sql = sql.substring(0, MAX_SQL_LENGTH) + "...";
+        }
+        trace.record(Category.SQL, sql, timeElapsedNanos, e == null ? null : e.getMessage());
+    }
+}
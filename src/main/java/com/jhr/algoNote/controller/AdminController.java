@@ -1,14 +1,25 @@
 package com.jhr.algoNote.controller;
 
+import com.jhr.algoNote.cache.SecondLevelCacheStatistics;
 import com.jhr.algoNote.config.auth.LoginUser;
 import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.config.log.SqlStatistics;
+import com.jhr.algoNote.config.trace.RequestTrace;
+import com.jhr.algoNote.config.trace.RequestTracer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import javax.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 @Controller
 @RequiredArgsConstructor
@@ -16,9 +27,59 @@ import org.springframework.web.bind.annotation.RequestMapping;
 public class AdminController {
 
     private final HttpSession httpSession;
+    private final SqlStatistics sqlStatistics;
+    private final SecondLevelCacheStatistics secondLevelCacheStatistics;
+    private final RequestTracer requestTracer;
 
     @RequestMapping("/admin")
     public String adminPage(Model model) {
+        model.addAttribute("secondLevelCacheStats", secondLevelCacheStatistics.getRegionStats());
+        model.addAttribute("sqlStatements", sqlStatistics.getTopStatements(10));
+        model.addAttribute("sqlRequestStats", sqlStatistics.getRequestStats());
+        model.addAttribute("traceEnabled", requestTracer.isEnabled());
+        model.addAttribute("traces", requestTracer.getRecent(10));
         return "adminPage";
     }
+
+    /**
+     * SQL 통계 (fingerprint 별 횟수, 총 시간, p99 + 요청당 문장 수, N+1 의심 요청)
+     */
+    @ResponseBody
+    @GetMapping("/admin/sql")
+    public Map<String, Object> sqlStats(@RequestParam(value = "limit", defaultValue = "50") int limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", sqlStatistics.getRequestStats());
+        result.put("statements", sqlStatistics.getTopStatements(limit));
+        return result;
+    }
+
+    @PostMapping("/admin/sql/reset")
+    public String resetSqlStats() {
+        sqlStatistics.reset();
+        return "redirect:/admin";
+    }
+
+    /**
+     * 최근 요청 추적 (구간별 시작, 소요 시간)
+     */
+    @ResponseBody
+    @GetMapping("/admin/trace")
+    public List<RequestTrace> traces(@RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return requestTracer.getRecent(limit);
+    }
+
+    /**
+     * 모든 요청 추적 켜기/끄기 (끄더라도 ADMIN 이나 secret 의 X-AlgoNote-Trace 헤더 요청은 추적)
+     */
+    @PostMapping("/admin/trace")
+    public String toggleTrace(@RequestParam("enabled") boolean enabled) {
+        requestTracer.setEnabled(enabled);
+        return "redirect:/admin";
+    }
+
+    @PostMapping("/admin/trace/reset")
+    public String resetTraces() {
+        requestTracer.clear();
+        return "redirect:/admin";
+    }
 }
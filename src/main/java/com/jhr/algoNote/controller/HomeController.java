@@ -31,7 +31,7 @@ public class HomeController {
         if (user != null) {
             //문제 조회
             ProblemSearch problemSearch = ProblemSearch.builder()
-                    .memberEmail(user.getEmail())
+                    .memberId(user.getId())
                     .build();
             List<Problem> problems = problemService.search(problemSearch);
 
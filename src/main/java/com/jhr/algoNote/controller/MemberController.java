@@ -2,6 +2,7 @@ package com.jhr.algoNote.controller;
 
 import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.repository.query.MemberQueryDto;
 import com.jhr.algoNote.service.MemberService;
 import java.util.List;
 import javax.validation.Valid;
@@ -13,6 +14,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 @RequiredArgsConstructor
@@ -24,6 +26,8 @@ public class MemberController {
 
     //URI
     private final String CREATE = "/new";
+    private static final int PAGE_SIZE = 20;
+
     @GetMapping(CREATE)
     public String createForm(Model model) {
         model.addAttribute("memberForm", new MemberForm());
@@ -47,10 +51,19 @@ public class MemberController {
         return "redirect:/";
     }
 
+    /**
+     * 회원 목록 (keyset 페이징)
+     *
+     * @param lastId 이전 페이지의 마지막 회원 id, 첫 페이지는 생략
+     */
     @GetMapping
-    public String list(Model model) {
-        List<Member> members = memberService.findMembers();
+    public String list(Model model, @RequestParam(value = "lastId", required = false) Long lastId) {
+        List<MemberQueryDto> members = memberService.findMembers(lastId, PAGE_SIZE, true);
         model.addAttribute("members", members);
+        //다음 페이지가 없으면 null
+        if (members.size() == PAGE_SIZE) {
+            model.addAttribute("nextId", members.get(members.size() - 1).getId());
+        }
         return "members/memberList";
     }
 }
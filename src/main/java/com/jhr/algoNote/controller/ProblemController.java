@@ -3,16 +3,16 @@ package com.jhr.algoNote.controller;
 
 import com.jhr.algoNote.config.auth.LoginUser;
 import com.jhr.algoNote.config.auth.dto.SessionUser;
-import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.domain.Problem;
 import com.jhr.algoNote.domain.Review;
 import com.jhr.algoNote.domain.Site;
 import com.jhr.algoNote.dto.ProblemCreateRequest;
 import com.jhr.algoNote.dto.ProblemDetails;
 import com.jhr.algoNote.dto.ProblemUpdateRequest;
+import com.jhr.algoNote.dto.ResourceVersion;
 import com.jhr.algoNote.dto.ReviewDetails;
 import com.jhr.algoNote.repository.query.ProblemSearch;
-import com.jhr.algoNote.service.MemberService;
+import com.jhr.algoNote.repository.query.ProblemSort;
 import com.jhr.algoNote.service.ProblemService;
 import com.jhr.algoNote.service.ReviewService;
 import com.jhr.algoNote.service.TagService;
@@ -22,6 +22,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.servlet.http.HttpSession;
 import javax.validation.Valid;
@@ -35,7 +36,6 @@ import java.util.List;
 public class ProblemController {
 
     private final ProblemService problemService;
-    private final MemberService memberService;
     private final ReviewService reviewService;
 
     //URI
@@ -43,6 +43,8 @@ public class ProblemController {
     private final String EDIT = "/{id}/edit";
     private final String SEARCH = "/search";
     private final String DETAILS = "/{id}";
+    private final String DELETE = "/{id}/delete";
+    private final String BULK_DELETE = "/delete";
 
     @GetMapping(CREAT)
     public String createForm(Model model) {
@@ -60,7 +62,6 @@ public class ProblemController {
             return "problems/createProblemForm";
         }
 
-        Member member = memberService.findByEmail(user.getEmail());
         ProblemCreateRequest problemCreateRequest = ProblemCreateRequest.builder()
                 .title(problemForm.getTitle())
                 .contentText(problemForm.getContentText())
@@ -68,7 +69,7 @@ public class ProblemController {
                 .tagText(problemForm.getTagText())
                 .site(problemForm.getSite())
                 .build();
-        Long problemId = problemService.register(member.getId(), problemCreateRequest);
+        Long problemId = problemService.register(user.getId(), problemCreateRequest);
         log.error("문제아이디 {}",problemId);
         return "redirect:/problems/"+problemId;
     }
@@ -80,11 +81,22 @@ public class ProblemController {
      * @return
      */
     @GetMapping
-    public String list(Model model, @LoginUser SessionUser user) {
+    public String list(Model model, @LoginUser SessionUser user, WebRequest webRequest,
+                       @RequestParam(value = "sort", required = false) ProblemSort sort,
+                       @RequestParam(value = "minReviews", required = false) Integer minReviews) {
+
+        //변경되지 않았으면 304
+        ResourceVersion version = problemService.findCollectionVersion(user.getId());
+        if (version != null && webRequest.checkNotModified(version.toETag(user, sort, minReviews),
+                version.getLastModifiedMillis())) {
+            return null;
+        }
 
         ProblemSearch problemSearch = ProblemSearch.builder()
-                .memberEmail(user.getEmail())
+                .memberId(user.getId())
                 .build();
+        problemSearch.setSort(sort);
+        problemSearch.setMinReviews(minReviews);
 
         List<Problem> problems = problemService.search(problemSearch);
 
@@ -99,6 +111,8 @@ public class ProblemController {
                     .tagText(tagText)
                     .createdDate(problem.getCreatedDate())
                     .modifiedDate(problem.getModifiedDate())
+                    .reviewCount(problem.getReviewCount())
+                    .lastReviewedAt(problem.getLastReviewedAt())
                     .build();
             list.add(dto);
         }
@@ -136,8 +150,6 @@ public class ProblemController {
             return "problems/updateProblemForm";
         }
 
-        Member member = memberService.findByEmail(user.getEmail());
-
         ProblemUpdateRequest dto = ProblemUpdateRequest.builder()
                 .title(problemForm.getTitle())
                 .contentText(problemForm.getContentText())
@@ -147,7 +159,7 @@ public class ProblemController {
                 .id(problemForm.getId())
                 .build();
 
-        problemService.edit(member.getId(), dto);
+        problemService.edit(user.getId(), dto);
         return "redirect:";
     }
 
@@ -156,7 +168,7 @@ public class ProblemController {
                                     Model model, @LoginUser SessionUser user) {
         model.addAttribute("userEmail", user.getEmail());
         //자신의 문제만 검색 가능
-        problemSearch.setMemberEmail(user.getEmail());
+        problemSearch.setMemberId(user.getId());
         //검색 DTO 생성
         List<ProblemDetails> list = new ArrayList<>();
         for (Problem problem : problemService.search(problemSearch)) {
@@ -170,6 +182,8 @@ public class ProblemController {
                     .tagText(tagText)
                     .createdDate(problem.getCreatedDate())
                     .modifiedDate(problem.getModifiedDate())
+                    .reviewCount(problem.getReviewCount())
+                    .lastReviewedAt(problem.getLastReviewedAt())
                     .build();
             list.add(dto);
         }
@@ -181,7 +195,15 @@ public class ProblemController {
 
 
     @GetMapping(DETAILS)
-    public String ProblemDetails(@PathVariable Long id, Model model) {
+    public String ProblemDetails(@PathVariable Long id, Model model, @LoginUser SessionUser user,
+                                 WebRequest webRequest) {
+        //변경되지 않았으면 문제를 조회하지 않고 304
+        ResourceVersion version = problemService.findVersion(id);
+        if (version != null && webRequest.checkNotModified(version.toETag(user),
+                version.getLastModifiedMillis())) {
+            return null;
+        }
+
         // 문제 조회
         Problem problem = problemService.findOne(id);
         if (problem == null) {
@@ -216,5 +238,20 @@ public class ProblemController {
         return "problems/problemDetails";
     }
 
+    @PostMapping(DELETE)
+    public String delete(@PathVariable Long id, @LoginUser SessionUser user) {
+        problemService.delete(user.getId(), id);
+        return "redirect:/problems";
+    }
+
+    /**
+     * 선택한 문제 일괄 삭제
+     */
+    @PostMapping(BULK_DELETE)
+    public String deleteAll(@RequestParam("ids") List<Long> ids, @LoginUser SessionUser user) {
+        int deleted = problemService.deleteAll(user.getId(), ids);
+        log.debug("problems are deleted (count={})", deleted);
+        return "redirect:/problems";
+    }
 
 }
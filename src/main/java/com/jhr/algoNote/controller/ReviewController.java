@@ -3,11 +3,10 @@ package com.jhr.algoNote.controller;
 
 import com.jhr.algoNote.config.auth.LoginUser;
 import com.jhr.algoNote.config.auth.dto.SessionUser;
-import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.domain.Review;
+import com.jhr.algoNote.dto.ResourceVersion;
 import com.jhr.algoNote.dto.ReviewCreateRequest;
 import com.jhr.algoNote.dto.ReviewDetails;
-import com.jhr.algoNote.service.MemberService;
 import com.jhr.algoNote.service.ReviewService;
 
 import javax.servlet.http.HttpServlet;
@@ -21,6 +20,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.http.HttpRequest;
 
@@ -32,10 +32,10 @@ public class ReviewController {
 
 
     private final ReviewService reviewService;
-    private final MemberService memberService;
 
     final String CREATE = "/reviews/new";
     final String DETAILS = "/reviews/{reviewId}";
+    final String DELETE = "/reviews/{reviewId}/delete";
 
     @GetMapping(CREATE)
     public String createForm(Model model, @RequestParam Long pid) {
@@ -54,23 +54,31 @@ public class ReviewController {
     public String create(@Valid ReviewForm reviewForm,
                          @LoginUser SessionUser user) {
 
-        Member member = memberService.findByEmail(user.getEmail());
         //리뷰 생성
         ReviewCreateRequest reviewCreateRequest = ReviewCreateRequest.builder()
                 .title(reviewForm.getTitle())
                 .tagText(reviewForm.getTagText())
                 .problemId(reviewForm.getProblemId())
                 .contentText(reviewForm.getContentText())
+                .quality(reviewForm.getQuality())
                 .build();
 
-        Long reviewId = reviewService.createReview(member.getId(), reviewCreateRequest);
+        Long reviewId = reviewService.createReview(user.getId(), reviewCreateRequest);
 
         log.debug("review is created (reviewId={})", reviewId);
         return "redirect:/problems/" + reviewForm.getProblemId();
     }
 
     @GetMapping(DETAILS)
-    public String detailsForm(Model model, @PathVariable Long reviewId) {
+    public String detailsForm(Model model, @PathVariable Long reviewId,
+                              @LoginUser SessionUser user, WebRequest webRequest) {
+
+        //변경되지 않았으면 리뷰를 조회하지 않고 304
+        ResourceVersion version = reviewService.findVersion(reviewId);
+        if (version != null && webRequest.checkNotModified(version.toETag(user),
+                version.getLastModifiedMillis())) {
+            return null;
+        }
 
         Review review = reviewService.findOne(reviewId);
 
@@ -87,4 +95,11 @@ public class ReviewController {
         return "/reviews/reviewDetailsForm";
     }
 
+    @PostMapping(DELETE)
+    public String delete(@PathVariable Long reviewId, @RequestParam Long pid,
+                         @LoginUser SessionUser user) {
+        reviewService.delete(user.getId(), reviewId);
+        return "redirect:/problems/" + pid;
+    }
+
 }
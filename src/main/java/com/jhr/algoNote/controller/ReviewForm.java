@@ -1,6 +1,10 @@
 package com.jhr.algoNote.controller;
 
+import com.jhr.algoNote.domain.ReviewSchedule;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,5 +17,10 @@ public class ReviewForm {
     private String contentText;
     private String tagText;
     private Long problemId;
+    //복습 평가 0 ~ 5
+    @NotNull
+    @Min(ReviewSchedule.MIN_QUALITY)
+    @Max(ReviewSchedule.MAX_QUALITY)
+    private Integer quality = ReviewSchedule.DEFAULT_QUALITY;
 
 }
@@ -4,27 +4,38 @@ import static javax.persistence.FetchType.LAZY;
 
 import com.jhr.algoNote.domain.content.ProblemContent;
 import com.jhr.algoNote.domain.tag.ProblemTag;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.Table;
+import javax.persistence.Version;
 import javax.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.OptimisticLock;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_problem_member", columnList = "member_id, problem_id"),
+    @Index(name = "idx_problem_member_next_review", columnList = "member_id, next_review_at"),
+    @Index(name = "idx_problem_next_review", columnList = "next_review_at")})
 public class Problem extends BaseTimeEntity {
 
     @Id
@@ -46,6 +57,8 @@ public class Problem extends BaseTimeEntity {
     @OneToMany(mappedBy = "problem", cascade = CascadeType.ALL)
     private List<ProblemTag> problemTags = new ArrayList<>();
 
+    // 리뷰 개수는 reviewCount 로 관리하므로 리뷰 추가로 version 을 올리지 않는다
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "problem", cascade = CascadeType.ALL)
     private List<Review> reviews = new ArrayList<>();
 
@@ -53,10 +66,36 @@ public class Problem extends BaseTimeEntity {
     @JoinColumn(name = "problem_content_id")
     private ProblemContent content;
 
+    /**
+     * 내용, 태그 수정시에도 증가 (ETag 검증에 사용)
+     */
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
+    /**
+     * 리뷰 개수, 마지막 리뷰 시각 (Review 테이블 없이 정렬, 필터하기 위해 유지)
+     * <p>
+     * ProblemRepository.recordReview 의 UPDATE 로만 변경한다.
+     */
+    @Column(columnDefinition = "integer default 0")
+    private Integer reviewCount;
+
+    private LocalDateTime lastReviewedAt;
+
+    /**
+     * 복습 일정, 기존 데이터는 null 일 수 있다
+     */
+    @Embedded
+    private ReviewSchedule schedule;
+
     //== 연관관계 메서드 == //
     private void setMember(Member member) {
         this.member = member;
-        member.getProblems().add(this);
+        // 로딩되지 않은 프록시(getReference 로 얻은 회원)는 컬렉션을 건드려 초기화하지 않는다
+        if (Hibernate.isInitialized(member)) {
+            member.getProblems().add(this);
+        }
     }
 
     private void addProblemTag(ProblemTag problemTag) {
@@ -86,6 +125,8 @@ public class Problem extends BaseTimeEntity {
         problem.setContent(content);
         problem.url = url;
         problem.site = site;
+        problem.schedule = ReviewSchedule.initial(LocalDateTime.now());
+        problem.reviewCount = 0;
         problem.addNewProblemTags(problemTagList);
         return problem;
     }
@@ -102,6 +143,24 @@ public class Problem extends BaseTimeEntity {
         this.url = url;
     }
 
+    /**
+     * 복습 결과로 다음 복습 일정 계산 (일정이 없던 문제는 처음부터 시작)
+     * <p>
+     * 문제는 변경하지 않는다. 저장은 ProblemRepository.recordReview 로 한다.
+     */
+    public ReviewSchedule nextSchedule(int quality, LocalDateTime reviewedAt) {
+        ReviewSchedule current = schedule != null ? schedule
+            : ReviewSchedule.initial(reviewedAt.minusDays(1));
+        return current.next(quality, reviewedAt);
+    }
+
+    /**
+     * @return 일정이 없으면 null
+     */
+    public LocalDateTime getNextReviewAt() {
+        return schedule == null ? null : schedule.getNextReviewAt();
+    }
+
     /**
      * 문제 태그 수정
      */
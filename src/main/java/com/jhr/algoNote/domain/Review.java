@@ -11,18 +11,24 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.Table;
 import javax.validation.constraints.NotEmpty;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import org.hibernate.Hibernate;
 
 @Getter
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_review_member_created", columnList = "member_id, created_date"),
+    @Index(name = "idx_review_problem", columnList = "problem_id, review_id")})
 public class Review extends BaseTimeEntity {
 
 
@@ -72,11 +78,16 @@ public class Review extends BaseTimeEntity {
     //== 연관관계 메서드 == //
     public void setMember(Member member) {
         this.member = member;
-        member.getReviews().add(this);
+        if (Hibernate.isInitialized(member)) {
+            member.getReviews().add(this);
+        }
     }
     public void addProblem(Problem problem) {
         this.problem = problem;
-        problem.getReviews().add(this);
+        // 리뷰 개수는 reviewCount 로 관리하므로 로딩되지 않은 리뷰 목록은 읽지 않는다
+        if (Hibernate.isInitialized(problem.getReviews())) {
+            problem.getReviews().add(this);
+        }
     }
 
     /**
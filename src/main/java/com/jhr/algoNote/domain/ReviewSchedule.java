@@ -0,0 +1,89 @@
+package com.jhr.algoNote.domain;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문제 복습 일정 (SM-2)
+ * <p>
+ * 리뷰를 작성할 때마다 복습 평가(quality 0~5)로 다음 복습 시각을 계산한다. 불변 객체이며 변경 시 새 객체를 만든다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewSchedule {
+
+    public static final int MIN_QUALITY = 0;
+    public static final int MAX_QUALITY = 5;
+    public static final int DEFAULT_QUALITY = 4;
+    static final double INITIAL_EASE_FACTOR = 2.5;
+    static final double MIN_EASE_FACTOR = 1.3;
+
+    // 연속으로 성공한 복습 횟수
+    @Column(name = "repetition")
+    private Integer repetition;
+
+    @Column(name = "interval_days")
+    private Integer intervalDays;
+
+    @Column(name = "ease_factor")
+    private Double easeFactor;
+
+    @Column(name = "next_review_at")
+    private LocalDateTime nextReviewAt;
+
+    private ReviewSchedule(int repetition, int intervalDays, double easeFactor,
+        LocalDateTime nextReviewAt) {
+        this.repetition = repetition;
+        this.intervalDays = intervalDays;
+        this.easeFactor = easeFactor;
+        this.nextReviewAt = nextReviewAt;
+    }
+
+    /**
+     * 문제 등록 시 일정, 하루 뒤 첫 복습
+     */
+    public static ReviewSchedule initial(LocalDateTime now) {
+        return new ReviewSchedule(0, 1, INITIAL_EASE_FACTOR, now.plusDays(1));
+    }
+
+    /**
+     * 복습 후 다음 일정 계산
+     *
+     * @param quality    복습 평가 0 ~ 5 (3 미만이면 처음부터 다시)
+     * @param reviewedAt 복습 시각
+     */
+    public ReviewSchedule next(int quality, LocalDateTime reviewedAt) {
+        if (quality < MIN_QUALITY || quality > MAX_QUALITY) {
+            throw new IllegalArgumentException(
+                "복습 평가는 " + MIN_QUALITY + " ~ " + MAX_QUALITY + " 이어야 합니다.");
+        }
+
+        int nextRepetition;
+        int nextInterval;
+        if (quality < 3) {
+            nextRepetition = 0;
+            nextInterval = 1;
+        } else {
+            nextRepetition = repetition + 1;
+            if (repetition == 0) {
+                nextInterval = 1;
+            } else if (repetition == 1) {
+                nextInterval = 6;
+            } else {
+                nextInterval = (int) Math.round(intervalDays * easeFactor);
+            }
+        }
+
+        int q = MAX_QUALITY - quality;
+        double nextEaseFactor = Math.max(MIN_EASE_FACTOR,
+            easeFactor + (0.1 - q * (0.08 + q * 0.02)));
+
+        return new ReviewSchedule(nextRepetition, nextInterval, nextEaseFactor,
+            reviewedAt.plusDays(nextInterval));
+    }
+}
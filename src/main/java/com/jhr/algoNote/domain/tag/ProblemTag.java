@@ -7,14 +7,17 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_problem_tag_problem_tag", columnList = "problem_id, tag_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProblemTag {
 
@@ -1,6 +1,7 @@
 package com.jhr.algoNote.domain.tag;
 
 import java.util.regex.Pattern;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -8,10 +9,17 @@ import javax.persistence.Id;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+/**
+ * 태그, 생성 후 변경하지 않는다 (2차 캐시 READ_ONLY, region 설정은 SecondLevelCacheConfig)
+ */
 @NoArgsConstructor
 @Entity
 @Getter
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "tag")
 public class Tag {
 
     @Id
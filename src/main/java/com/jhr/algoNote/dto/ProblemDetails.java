@@ -23,6 +23,8 @@ public class ProblemDetails {
     private String writer;
     private LocalDateTime createdDate;
     private LocalDateTime modifiedDate;
+    private Integer reviewCount;
+    private LocalDateTime lastReviewedAt;
 
     public void setSiteName(String siteName) {
         if (siteName == null)
@@ -37,7 +39,7 @@ public class ProblemDetails {
     }
 
     @Builder
-    public ProblemDetails(String title, String url, String contentText, String tagText, String siteName, Long id, String writer, LocalDateTime createdDate, LocalDateTime modifiedDate) {
+    public ProblemDetails(String title, String url, String contentText, String tagText, String siteName, Long id, String writer, LocalDateTime createdDate, LocalDateTime modifiedDate, Integer reviewCount, LocalDateTime lastReviewedAt) {
         this.title = title;
         this.url = url;
         this.contentText = contentText;
@@ -47,5 +49,7 @@ public class ProblemDetails {
         this.writer = writer;
         this.createdDate = createdDate;
         this.modifiedDate = modifiedDate;
+        this.reviewCount = reviewCount;
+        this.lastReviewedAt = lastReviewedAt;
     }
 }
@@ -0,0 +1,67 @@
+package com.jhr.algoNote.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 조건부 GET(ETag, Last-Modified) 검증에 사용하는 리소스 버전 정보
+ * <p>
+ * 엔티티 전체를 로딩하지 않고 수정일, 버전, 개수 같은 메타데이터만 조회해서 만든다.
+ */
+@Getter
+public class ResourceVersion {
+
+    private final LocalDateTime lastModified;
+    private final String fingerprint;
+
+    /**
+     * @param lastModified 리소스의 마지막 수정 시각
+     * @param parts        리소스가 바뀌면 함께 바뀌는 값 (id, version, 개수 ...)
+     */
+    public ResourceVersion(LocalDateTime lastModified, Object... parts) {
+        this.lastModified = lastModified;
+        this.fingerprint = join(parts);
+    }
+
+    /**
+     * 응답에 영향을 주는 값(로그인 유저, 페이지 파라미터 ...)을 포함한 strong ETag 값
+     */
+    public String toETag(Object... variants) {
+        String source = fingerprint + "|" + join(variants);
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Last-Modified 헤더 값(ms), 수정 시각이 없으면 -1
+     */
+    public long getLastModifiedMillis() {
+        if (lastModified == null) {
+            return -1;
+        }
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 두 시각 중 늦은 시각, null 은 무시
+     */
+    public static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static String join(Object... values) {
+        return Arrays.stream(values)
+            .map(String::valueOf)
+            .collect(Collectors.joining(":"));
+    }
+}
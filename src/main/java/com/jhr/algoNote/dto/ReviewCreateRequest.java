@@ -13,16 +13,19 @@ public class ReviewCreateRequest {
     private String contentText ;
     private String tagText ;
     private Long problemId;
+    //복습 평가 0 ~ 5, null 이면 ReviewSchedule.DEFAULT_QUALITY
+    private Integer quality;
 
 
     @Builder
     public static ReviewCreateRequest create(String title, String contentText, String tagText,
-        Long problemId) {
+        Long problemId, Integer quality) {
         ReviewCreateRequest reviewCreateRequest = new ReviewCreateRequest();
         reviewCreateRequest.title = title;
         reviewCreateRequest.contentText = contentText;
         reviewCreateRequest.tagText = tagText;
         reviewCreateRequest.problemId = problemId;
+        reviewCreateRequest.quality = quality;
         return reviewCreateRequest;
     }
 
@@ -0,0 +1,106 @@
+package com.jhr.algoNote.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * 문제, 리뷰 제목과 Markdown 내용 생성 (한국어/영어 문장, 코드 블록)
+ * <p>
+ * 같은 random 상태에서는 항상 같은 내용을 만든다.
+ */
+public final class ContentGenerator {
+
+    private static final String[] TITLE_WORDS = {"정수", "배열", "문자열", "트리", "그래프", "최단 경로", "부분 수열",
+        "괄호", "계단 오르기", "동전", "미로", "섬의 개수", "Two Sum", "LRU Cache", "Word Ladder", "Coin Change",
+        "Maximum Subarray", "N-Queen", "토마토", "숨바꼭질", "연구소", "치킨 배달", "스타트와 링크", "Median of Two Arrays"};
+    private static final String[] TITLE_SUFFIXES = {"", " 2", " 3", " (Small)", " (Large)", " 구하기", " 찾기", " II"};
+
+    private static final String[] KOREAN_SENTENCES = {
+        "정수 N 이 주어졌을 때 조건을 만족하는 경우의 수를 구하는 문제이다.",
+        "입력의 첫째 줄에 테스트 케이스의 개수 T 가 주어진다.",
+        "각 칸은 빈 칸 또는 벽이며, 상하좌우로 인접한 칸으로만 이동할 수 있다.",
+        "시간 제한이 짧으므로 O(N log N) 이하의 풀이가 필요하다.",
+        "dp[i] 를 i 번째까지 고려했을 때의 최댓값으로 정의한다.",
+        "처음에는 완전 탐색으로 접근했지만 시간 초과가 발생했다.",
+        "우선순위 큐를 사용하면 매번 최솟값을 빠르게 꺼낼 수 있다.",
+        "방문 배열을 초기화하지 않아 두 번째 테스트 케이스에서 틀렸다.",
+        "경계 조건에서 인덱스가 범위를 벗어나지 않도록 주의한다.",
+        "정렬한 뒤 투 포인터로 양 끝에서 좁혀 나간다."};
+    private static final String[] ENGLISH_SENTENCES = {
+        "Given an array of integers, return the indices of the two numbers that add up to the target.",
+        "The answer may be large, so print it modulo 1,000,000,007.",
+        "Use a monotonic stack to find the next greater element in linear time.",
+        "Memoization reduces the exponential recursion to O(N * K).",
+        "Each query must be answered in logarithmic time.",
+        "Union-Find with path compression keeps the amortized cost nearly constant.",
+        "Be careful with integer overflow when multiplying two large values.",
+        "Binary search on the answer works because the predicate is monotonic."};
+
+    private static final String[] CODE_BLOCKS = {
+        "```java\nint[] dp = new int[n + 1];\ndp[0] = 1;\nfor (int i = 1; i <= n; i++) {\n"
+            + "    dp[i] = dp[i - 1] + (i >= 2 ? dp[i - 2] : 0);\n}\nSystem.out.println(dp[n]);\n```",
+        "```java\nQueue<int[]> queue = new ArrayDeque<>();\nqueue.add(new int[]{0, 0});\n"
+            + "visited[0][0] = true;\nwhile (!queue.isEmpty()) {\n    int[] cur = queue.poll();\n"
+            + "    for (int d = 0; d < 4; d++) {\n        int nx = cur[0] + dx[d], ny = cur[1] + dy[d];\n"
+            + "        if (inRange(nx, ny) && !visited[nx][ny]) {\n            visited[nx][ny] = true;\n"
+            + "            queue.add(new int[]{nx, ny});\n        }\n    }\n}\n```",
+        "```python\nimport sys\ninput = sys.stdin.readline\n\nn = int(input())\n"
+            + "arr = sorted(map(int, input().split()))\nlo, hi = 0, n - 1\nwhile lo < hi:\n"
+            + "    s = arr[lo] + arr[hi]\n    if s == 0:\n        break\n    lo, hi = (lo + 1, hi) if s < 0 else (lo, hi - 1)\n```",
+        "```cpp\nint find(int x) {\n    return parent[x] == x ? x : parent[x] = find(parent[x]);\n}\n\n"
+            + "void unite(int a, int b) {\n    a = find(a); b = find(b);\n    if (a != b) parent[b] = a;\n}\n```",
+        "```sql\nSELECT name, COUNT(*) AS cnt\nFROM animal_ins\nGROUP BY name\nHAVING COUNT(*) > 1\nORDER BY name;\n```"};
+
+    private ContentGenerator() {
+    }
+
+    public static String problemTitle(SplittableRandom random, long index) {
+        return pick(random, TITLE_WORDS) + pick(random, TITLE_SUFFIXES) + " #" + index;
+    }
+
+    public static String reviewTitle(SplittableRandom random, int index) {
+        return (index + 1) + "회차 복습 - " + pick(random, new String[]{"다시 풀기", "풀이 정리", "시간 초과 해결",
+            "Refactoring", "Edge cases", "다른 풀이"});
+    }
+
+    /**
+     * 문제 설명, 입력/출력, 예제 (길이는 문단 수로 조절)
+     */
+    public static String problemMarkdown(SplittableRandom random) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("## 문제\n\n");
+        paragraphs(random, sb, 1 + random.nextInt(3));
+        sb.append("### 입력\n\n").append(pick(random, KOREAN_SENTENCES)).append("\n\n");
+        sb.append("### 출력\n\n").append(pick(random, ENGLISH_SENTENCES)).append("\n\n");
+        sb.append("### 예제\n\n```\n").append(random.nextInt(1_000)).append(' ')
+            .append(random.nextInt(1_000)).append("\n```\n");
+        return sb.toString();
+    }
+
+    /**
+     * 풀이 설명, 코드 블록
+     */
+    public static String reviewMarkdown(SplittableRandom random) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("## 풀이\n\n");
+        paragraphs(random, sb, 1 + random.nextInt(4));
+        sb.append(pick(random, CODE_BLOCKS)).append("\n\n");
+        sb.append("- 시간 복잡도: O(").append(pick(random, new String[]{"N", "N log N", "N^2", "N * M", "2^N"}))
+            .append(")\n");
+        return sb.toString();
+    }
+
+    private static void paragraphs(SplittableRandom random, StringBuilder sb, int count) {
+        for (int p = 0; p < count; p++) {
+            int sentences = 1 + random.nextInt(4);
+            for (int s = 0; s < sentences; s++) {
+                sb.append(random.nextInt(3) == 0 ? pick(random, ENGLISH_SENTENCES) : pick(random, KOREAN_SENTENCES))
+                    .append(' ');
+            }
+            sb.append("\n\n");
+        }
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,256 @@
+package com.jhr.algoNote.generator;
+
+import com.jhr.algoNote.cache.MemberEmailFilter;
+import com.jhr.algoNote.domain.Member;
+import com.jhr.algoNote.domain.Problem;
+import com.jhr.algoNote.domain.Review;
+import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.domain.Site;
+import com.jhr.algoNote.domain.content.ProblemContent;
+import com.jhr.algoNote.domain.content.ReviewContent;
+import com.jhr.algoNote.domain.tag.ProblemTag;
+import com.jhr.algoNote.domain.tag.ReviewTag;
+import com.jhr.algoNote.domain.tag.Tag;
+import com.jhr.algoNote.repository.MemberRepository;
+import com.jhr.algoNote.repository.ProblemRepository;
+import com.jhr.algoNote.service.TagService;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 성능 측정용 데이터 생성 (회원, 문제, 리뷰, 태그)
+ * <p>
+ * 엔티티 매핑(연관관계 메서드, cascade)을 그대로 사용해 저장한다. 회원 단위로 작업을 나눠 여러 스레드가 각자의 트랜잭션으로
+ * 저장하고, batchSize 마다 flush, clear 한다. 회원마다 시드에서 파생한 난수를 쓰므로 스레드 수, 실행 순서와 상관없이 같은
+ * spec 이면 같은 내용이 만들어진다. (id 는 sequence 할당 순서에 따라 달라질 수 있다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataGenerator {
+
+    private static final String[] ALGORITHM_TAGS = {"구현", "dp", "그리디", "bfs", "dfs", "정렬", "문자열",
+        "이분탐색", "수학", "그래프", "브루트포스", "시뮬레이션", "투포인터", "백트래킹", "트리", "해시", "스택", "큐",
+        "우선순위큐", "다익스트라", "유니온파인드", "세그먼트트리", "비트마스킹", "누적합", "분할정복", "위상정렬",
+        "최소신장트리", "플로이드와샬", "LIS", "KMP", "트라이", "슬라이딩윈도우", "greedy", "sorting", "binarysearch"};
+
+    private final EntityManager em;
+    private final PlatformTransactionManager transactionManager;
+    private final TagService tagService;
+    private final MemberRepository memberRepository;
+    private final ProblemRepository problemRepository;
+    private final MemberEmailFilter memberEmailFilter;
+
+    public GenerationResult generate(GeneratorSpec spec) {
+        validate(spec);
+        long start = System.currentTimeMillis();
+
+        List<Long> tagIds = createTags(spec.getTags());
+        ZipfSampler tagSampler = new ZipfSampler(tagIds.size(), spec.getZipfExponent());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        AtomicInteger nextMember = new AtomicInteger();
+        LongAdder problems = new LongAdder();
+        LongAdder reviews = new LongAdder();
+        int logEvery = Math.max(1, spec.getMembers() / 20);
+
+        Runnable worker = () -> {
+            int member;
+            while ((member = nextMember.getAndIncrement()) < spec.getMembers()) {
+                int index = member;
+                try {
+                    transaction.executeWithoutResult(
+                        status -> generateMember(spec, index, tagIds, tagSampler, problems, reviews));
+                } catch (RuntimeException e) {
+                    nextMember.set(spec.getMembers()); //다른 스레드도 중단
+                    throw e;
+                }
+                if ((index + 1) % logEvery == 0) {
+                    long elapsed = Math.max(1, System.currentTimeMillis() - start);
+                    log.info("데이터 생성 중 - 회원 {}/{}, 문제 {}, 리뷰 {} ({} notes/s)", index + 1,
+                        spec.getMembers(), problems.sum(), reviews.sum(),
+                        (problems.sum() + reviews.sum()) * 1_000 / elapsed);
+                }
+            }
+        };
+        runWorkers(worker, spec.getThreads());
+
+        //새 회원 이메일을 가입 중복 검사 필터에 반영
+        memberEmailFilter.rebuild();
+
+        GenerationResult result = new GenerationResult(spec.getMembers(), problems.sum(), reviews.sum(),
+            System.currentTimeMillis() - start);
+        log.info("데이터 생성 완료 - 회원 {}, 문제 {}, 리뷰 {}, 태그 {}, {}ms ({} notes/s)", result.getMembers(),
+            result.getProblems(), result.getReviews(), tagIds.size(), result.getElapsedMillis(),
+            result.getNotesPerSecond());
+        return result;
+    }
+
+    private void validate(GeneratorSpec spec) {
+        if (spec.getMembers() <= 0 || spec.getProblems() < 0 || spec.getReviewsPerProblem() < 0
+            || spec.getTags() <= 0 || spec.getThreads() <= 0 || spec.getBatchSize() <= 0
+            || spec.getMaxTagsPerProblem() <= 0) {
+            throw new IllegalArgumentException("데이터 생성 설정이 올바르지 않습니다.");
+        }
+        if (!memberRepository.findByEmail(spec.emailOf(0)).isEmpty()) {
+            throw new IllegalArgumentException("이미 같은 seed 로 생성된 데이터가 있습니다. (seed=" + spec.getSeed() + ")");
+        }
+    }
+
+    /**
+     * 실제 알고리즘 분류 + tag1, tag2, ... 로 count 개, 이미 있는 태그는 그대로 사용 (Zipf 순위 순서)
+     */
+    private List<Long> createTags(int count) {
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = i < ALGORITHM_TAGS.length ? ALGORITHM_TAGS[i] : "tag" + (i - ALGORITHM_TAGS.length + 1);
+        }
+        return tagService.getTagList(names).stream()
+            .map(Tag::getId)
+            .collect(Collectors.toList());
+    }
+
+    private void runWorkers(Runnable worker, int threads) {
+        if (threads == 1) {
+            worker.run(); //호출한 스레드의 트랜잭션에 참여
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(worker));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("데이터 생성에 실패했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 회원 1명과 그 회원의 문제, 리뷰 저장 (트랜잭션 1개)
+     */
+    private void generateMember(GeneratorSpec spec, int index, List<Long> tagIds, ZipfSampler tagSampler,
+                                LongAdder problemCounter, LongAdder reviewCounter) {
+        SplittableRandom random = new SplittableRandom(spec.seedOf(index));
+        Member member = Member.builder()
+            .name("회원" + index)
+            .email(spec.emailOf(index))
+            .role(Role.USER)
+            .build();
+        Long memberId = memberRepository.save(member);
+
+        long firstProblem = spec.firstProblemOf(index);
+        long problemCount = spec.problemsOf(index);
+        List<Problem> batch = new ArrayList<>();
+        int pending = 0;
+        for (long i = 0; i < problemCount; i++) {
+            Member writer = em.getReference(Member.class, memberId);
+            Site site = randomSite(random);
+            Problem problem = Problem.builder()
+                .member(writer)
+                .title(ContentGenerator.problemTitle(random, firstProblem + i))
+                .content(ProblemContent.createProblemContent(ContentGenerator.problemMarkdown(random)))
+                .site(site == null ? "" : site.name())
+                .url(site == null ? null : urlOf(site, random))
+                .problemTagList(sampleTags(random, tagIds, tagSampler, 1 + random.nextInt(spec.getMaxTagsPerProblem()))
+                    .stream().map(ProblemTag::createProblemTag).collect(Collectors.toList()))
+                .build();
+
+            int reviews = random.nextInt(spec.getReviewsPerProblem() * 2 + 1);
+            for (int r = 0; r < reviews; r++) {
+                ReviewContent content = new ReviewContent();
+                content.setText(ContentGenerator.reviewMarkdown(random));
+                Review.builder()
+                    .member(writer)
+                    .title(ContentGenerator.reviewTitle(random, r))
+                    .problem(problem)
+                    .content(content)
+                    .reviewTagList(sampleTags(random, tagIds, tagSampler, random.nextInt(4)).stream()
+                        .map(ReviewTag::createReviewTag).collect(Collectors.toList()))
+                    .build();
+            }
+            em.persist(problem); //문제 태그, 내용, 리뷰는 cascade
+
+            batch.add(problem);
+            pending += 1 + reviews;
+            problemCounter.increment();
+            reviewCounter.add(reviews);
+            if (pending >= spec.getBatchSize()) {
+                flush(batch);
+                pending = 0;
+            }
+        }
+        flush(batch);
+    }
+
+    /**
+     * 저장 후 리뷰 개수, 마지막 리뷰 시각을 UPDATE 로 반영하고 영속성 컨텍스트를 비운다
+     */
+    private void flush(List<Problem> batch) {
+        em.flush();
+        List<Long> reviewed = batch.stream()
+            .filter(p -> !p.getReviews().isEmpty())
+            .map(Problem::getId)
+            .collect(Collectors.toList());
+        problemRepository.refreshReviewStats(reviewed);
+        batch.clear();
+        em.clear();
+    }
+
+    private List<Tag> sampleTags(SplittableRandom random, List<Long> tagIds, ZipfSampler sampler, int count) {
+        Set<Integer> ranks = new LinkedHashSet<>();
+        for (int attempt = 0; ranks.size() < Math.min(count, tagIds.size()) && attempt < count * 8; attempt++) {
+            ranks.add(sampler.sample(random));
+        }
+        List<Tag> tags = new ArrayList<>(ranks.size());
+        for (int rank : ranks) {
+            tags.add(em.getReference(Tag.class, tagIds.get(rank)));
+        }
+        return tags;
+    }
+
+    /**
+     * 사이트 없는 문제 포함 (values 길이 + 1 중 하나)
+     */
+    private static Site randomSite(SplittableRandom random) {
+        Site[] sites = Site.values();
+        int index = random.nextInt(sites.length + 1);
+        return index == sites.length ? null : sites[index];
+    }
+
+    private static String urlOf(Site site, SplittableRandom random) {
+        int number = 1_000 + random.nextInt(30_000);
+        switch (site) {
+            case BAEKJOON:
+                return "https://www.acmicpc.net/problem/" + number;
+            case PROGRAMMERS:
+                return "https://school.programmers.co.kr/learn/courses/30/lessons/" + number;
+            default:
+                return "https://leetcode.com/problems/problem-" + number + "/";
+        }
+    }
+}
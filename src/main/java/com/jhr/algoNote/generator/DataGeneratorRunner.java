@@ -0,0 +1,65 @@
+package com.jhr.algoNote.generator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * generate 프로필로 실행하면 데이터를 생성하고 종료 (설정은 application-generate.yml)
+ * <p>
+ * ./gradlew generateData -Pproblems=100000 -Pseed=7
+ */
+@Slf4j
+@Component
+@Profile("generate")
+@RequiredArgsConstructor
+public class DataGeneratorRunner implements ApplicationRunner {
+
+    private final DataGenerator dataGenerator;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${algonote.generator.seed}")
+    private long seed;
+    @Value("${algonote.generator.members}")
+    private int members;
+    @Value("${algonote.generator.problems}")
+    private long problems;
+    @Value("${algonote.generator.reviews-per-problem}")
+    private int reviewsPerProblem;
+    @Value("${algonote.generator.tags}")
+    private int tags;
+    @Value("${algonote.generator.zipf-exponent}")
+    private double zipfExponent;
+    @Value("${algonote.generator.threads}")
+    private int threads;
+    @Value("${algonote.generator.batch-size}")
+    private int batchSize;
+    @Value("${algonote.generator.exit}")
+    private boolean exit;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        GeneratorSpec.GeneratorSpecBuilder spec = GeneratorSpec.builder()
+            .seed(seed)
+            .members(members)
+            .problems(problems)
+            .reviewsPerProblem(reviewsPerProblem)
+            .tags(tags)
+            .zipfExponent(zipfExponent)
+            .batchSize(batchSize);
+        if (threads > 0) { //0 이면 CPU 수
+            spec.threads(threads);
+        }
+        dataGenerator.generate(spec.build());
+
+        if (exit) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
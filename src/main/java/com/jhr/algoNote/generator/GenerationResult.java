@@ -0,0 +1,26 @@
+package com.jhr.algoNote.generator;
+
+import lombok.Getter;
+
+@Getter
+public class GenerationResult {
+
+    private final long members;
+    private final long problems;
+    private final long reviews;
+    private final long elapsedMillis;
+
+    public GenerationResult(long members, long problems, long reviews, long elapsedMillis) {
+        this.members = members;
+        this.problems = problems;
+        this.reviews = reviews;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 초당 저장한 문제 + 리뷰 수
+     */
+    public long getNotesPerSecond() {
+        return elapsedMillis == 0 ? 0 : (problems + reviews) * 1_000 / elapsedMillis;
+    }
+}
@@ -0,0 +1,59 @@
+package com.jhr.algoNote.generator;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 생성할 데이터 규모 (같은 spec 이면 같은 내용이 생성된다)
+ */
+@Getter
+@Builder
+public class GeneratorSpec {
+
+    @Builder.Default
+    private final long seed = 42;
+    @Builder.Default
+    private final int members = 100;
+    @Builder.Default
+    private final long problems = 1_000;
+    //문제당 평균 리뷰 수 (0 ~ 2배 사이에서 균등)
+    @Builder.Default
+    private final int reviewsPerProblem = 2;
+    //태그 종류, 문제/리뷰 태그는 Zipf 분포로 고른다
+    @Builder.Default
+    private final int tags = 500;
+    @Builder.Default
+    private final double zipfExponent = 1.07;
+    @Builder.Default
+    private final int maxTagsPerProblem = 5;
+    @Builder.Default
+    private final int threads = Runtime.getRuntime().availableProcessors();
+    //flush, clear 단위 (hibernate.jdbc.batch_size 와 맞춘다)
+    @Builder.Default
+    private final int batchSize = 500;
+
+    /**
+     * member 번째 회원의 문제 수 (나머지는 앞 회원부터 1개씩)
+     */
+    long problemsOf(int member) {
+        return problems / members + (member < problems % members ? 1 : 0);
+    }
+
+    /**
+     * member 번째 회원의 첫 문제 번호
+     */
+    long firstProblemOf(int member) {
+        return member * (problems / members) + Math.min(member, problems % members);
+    }
+
+    /**
+     * 회원별 난수 시드, 스레드 수나 실행 순서와 상관없이 같은 내용을 만들기 위해 회원마다 따로 만든다
+     */
+    long seedOf(int member) {
+        return seed * 0x9E3779B97F4A7C15L + member;
+    }
+
+    public String emailOf(int member) {
+        return "user" + member + ".seed" + seed + "@algonote.dev";
+    }
+}
@@ -0,0 +1,42 @@
+package com.jhr.algoNote.generator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 표본 추출 (순위 k 의 확률 ∝ 1 / k^exponent)
+ * <p>
+ * 누적 확률을 미리 계산하고 이분 탐색으로 뽑는다. 상태가 없으므로 여러 스레드에서 공유해도 된다.
+ */
+public class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("표본 크기는 1 이상이어야 합니다.");
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int k = 1; k <= size; k++) {
+            sum += 1 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * @return 0 부터 시작하는 순위 (0 이 가장 자주 나온다)
+     */
+    public int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+}
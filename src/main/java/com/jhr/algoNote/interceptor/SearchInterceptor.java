@@ -15,6 +15,9 @@ public class SearchInterceptor implements HandlerInterceptor {
 
     @Override
     public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
+        if (modelAndView == null) { // 304 Not Modified 등 응답이 이미 처리된 경우
+            return;
+        }
         ProblemSearch problemSearch= ProblemSearch.builder().build();
         modelAndView.addObject(problemSearch);
     }
@@ -0,0 +1,32 @@
+package com.jhr.algoNote.interceptor;
+
+import com.jhr.algoNote.config.log.SqlStatistics;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+
+/**
+ * 요청마다 실행된 SQL 수를 세고, N+1 이 의심되면 기록함 (뷰 렌더링 중 지연 로딩까지 포함)
+ */
+public class SqlCountInterceptor implements HandlerInterceptor {
+
+    private final SqlStatistics sqlStatistics;
+
+    public SqlCountInterceptor(SqlStatistics sqlStatistics) {
+        this.sqlStatistics = sqlStatistics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        sqlStatistics.beginRequest();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        sqlStatistics.endRequest(request.getMethod() + " " + request.getRequestURI());
+    }
+}
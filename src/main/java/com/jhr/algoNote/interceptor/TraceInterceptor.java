@@ -0,0 +1,82 @@
+package com.jhr.algoNote.interceptor;
+
+import com.jhr.algoNote.config.trace.RequestTrace;
+import com.jhr.algoNote.config.trace.RequestTrace.Category;
+import com.jhr.algoNote.config.trace.RequestTrace.Span;
+import com.jhr.algoNote.config.trace.RequestTracer;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+
+/**
+ * 추적 대상 요청의 추적을 시작하고, 컨트롤러 실행과 뷰 렌더링을 구간으로 기록함
+ * <p>
+ * 다른 인터셉터보다 먼저 등록해서 요청 전체를 감싼다.
+ */
+public class TraceInterceptor implements HandlerInterceptor {
+
+    private static final String CONTROLLER_SPAN = TraceInterceptor.class.getName() + ".CONTROLLER";
+    private static final String RENDER_SPAN = TraceInterceptor.class.getName() + ".RENDER";
+
+    private final RequestTracer tracer;
+
+    public TraceInterceptor(RequestTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!tracer.shouldTrace(request)) {
+            return true;
+        }
+        RequestTrace trace = tracer.begin(request.getMethod() + " " + request.getRequestURI());
+        request.setAttribute(CONTROLLER_SPAN, trace.start(Category.CONTROLLER, nameOf(handler)));
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return;
+        }
+        close(request, CONTROLLER_SPAN);
+        //@ResponseBody 는 이미 응답을 썼으므로 렌더링 구간이 없다
+        if (modelAndView != null && modelAndView.getViewName() != null) {
+            request.setAttribute(RENDER_SPAN,
+                    trace.start(Category.RENDER, "render " + modelAndView.getViewName()));
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (RequestTrace.current() == null) {
+            return;
+        }
+        close(request, RENDER_SPAN);
+        close(request, CONTROLLER_SPAN);
+        tracer.finish(response.getStatus());
+    }
+
+    private static void close(HttpServletRequest request, String attribute) {
+        Object span = request.getAttribute(attribute);
+        if (span instanceof Span) {
+            ((Span) span).close();
+            request.removeAttribute(attribute);
+        }
+    }
+
+    private static String nameOf(Object handler) {
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return handler.getClass().getSimpleName();
+    }
+}
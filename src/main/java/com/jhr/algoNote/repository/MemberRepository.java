@@ -1,9 +1,13 @@
 package com.jhr.algoNote.repository;
 
 import com.jhr.algoNote.domain.Member;
+import com.jhr.algoNote.domain.Role;
 import java.util.List;
+import java.util.stream.Stream;
 import javax.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,15 +21,74 @@ public class MemberRepository {
         return member.getId();
     }
 
+    /**
+     * 저장 후 바로 insert (제약 조건 위반을 호출한 쪽에서 DataIntegrityViolationException 으로 받는다)
+     */
+    public Long saveAndFlush(Member member) {
+        em.persist(member);
+        em.flush();
+        return member.getId();
+    }
+
     public Member findById(Long id) {
         return em.find(Member.class, id);
     }
 
+    /**
+     * 조회 없이 프록시 반환 (존재가 확인된 id 에만 사용)
+     */
+    public Member getReference(Long id) {
+        return em.getReference(Member.class, id);
+    }
+
+    public long count() {
+        return em.createQuery("select count(m) from Member m", Long.class)
+            .getSingleResult();
+    }
+
+    /**
+     * 전체 이메일 스트리밍 조회 (트랜잭션 안에서 사용, 사용 후 close)
+     */
+    public Stream<String> streamEmails() {
+        return em.createQuery("select m.email from Member m", String.class)
+            .setHint(QueryHints.FETCH_SIZE, 1000)
+            .getResultStream();
+    }
+
     public List<Member> findAll() {
         return em.createQuery("select m from Member  m ", Member.class)
+            .setHint(QueryHints.READ_ONLY, true)
             .getResultList();
     }
 
+    /**
+     * 이메일 기준 upsert, 문장 1개로 처리한다. (H2 MERGE)
+     * <p>
+     * 이메일이 있으면 이름, 사진을 수정하고 없으면 USER 권한으로 새 회원을 추가한다. native 쿼리이므로 영속성 컨텍스트의
+     * Member 는 갱신되지 않는다.
+     */
+    public void upsertByEmail(String email, String name, String picture) {
+        em.createNativeQuery(
+                "merge into member m"
+                    + " using (select cast(:email as varchar) as email,"
+                    + " cast(:name as varchar) as name,"
+                    + " cast(:picture as varchar) as picture) s"
+                    + " on m.email = s.email"
+                    + " when matched then update set"
+                    + " m.name = s.name, m.picture = s.picture, m.modified_date = localtimestamp"
+                    + " when not matched then insert"
+                    + " (member_id, email, name, picture, role, created_date, modified_date)"
+                    + " values (next value for hibernate_sequence, s.email, s.name, s.picture,"
+                    + " :role, localtimestamp, localtimestamp)")
+            .setParameter("email", email)
+            .setParameter("name", name)
+            .setParameter("picture", picture)
+            .setParameter("role", Role.USER.name())
+            .unwrap(NativeQuery.class)
+            .addSynchronizedEntityClass(Member.class) // 2차 캐시는 member region 만 비운다 (지정하지 않으면 전체)
+            .executeUpdate();
+    }
+
     /**
      * 이메일로 조회
      */
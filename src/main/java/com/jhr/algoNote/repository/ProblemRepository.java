@@ -3,12 +3,15 @@ package com.jhr.algoNote.repository;
 import com.jhr.algoNote.domain.Problem;
 import com.jhr.algoNote.domain.QMember;
 import com.jhr.algoNote.domain.QProblem;
+import com.jhr.algoNote.domain.ReviewSchedule;
 import com.jhr.algoNote.domain.content.QProblemContent;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.List;
 import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
@@ -29,6 +32,107 @@ public class ProblemRepository {
         return em.find(Problem.class, id);
     }
 
+    /**
+     * 리뷰 작성 반영 - 리뷰 개수 증가, 마지막 리뷰 시각, 복습 일정, version 을 UPDATE 1번으로 변경
+     * <p>
+     * 개수는 DB 에서 증가시키므로 동시에 작성해도 누락되지 않는다. bulk update 이므로 영속성 컨텍스트의 Problem 은 갱신되지
+     * 않는다.
+     */
+    public int recordReview(Long problemId, ReviewSchedule schedule, LocalDateTime reviewedAt) {
+        return em.createQuery("update Problem p set"
+                        + " p.reviewCount = coalesce(p.reviewCount, 0) + 1,"
+                        + " p.lastReviewedAt = :reviewedAt,"
+                        + " p.schedule.repetition = :repetition,"
+                        + " p.schedule.intervalDays = :intervalDays,"
+                        + " p.schedule.easeFactor = :easeFactor,"
+                        + " p.schedule.nextReviewAt = :nextReviewAt,"
+                        + " p.version = p.version + 1"
+                        + " where p.id = :id")
+                .setParameter("reviewedAt", reviewedAt)
+                .setParameter("repetition", schedule.getRepetition())
+                .setParameter("intervalDays", schedule.getIntervalDays())
+                .setParameter("easeFactor", schedule.getEaseFactor())
+                .setParameter("nextReviewAt", schedule.getNextReviewAt())
+                .setParameter("id", problemId)
+                .executeUpdate();
+    }
+
+    /**
+     * 리뷰 삭제 반영 - 리뷰 개수, 마지막 리뷰 시각을 남은 리뷰로 다시 계산 (UPDATE 1번)
+     */
+    public int refreshReviewStats(List<Long> problemIds) {
+        if (problemIds.isEmpty()) {
+            return 0;
+        }
+        return em.createQuery("update Problem p set"
+                        + " p.reviewCount = (select count(r) from Review r where r.problem = p),"
+                        + " p.lastReviewedAt = (select max(r.createdDate) from Review r where r.problem = p),"
+                        + " p.version = p.version + 1"
+                        + " where p.id in :ids")
+                .setParameter("ids", problemIds)
+                .executeUpdate();
+    }
+
+    /**
+     * 문제 일괄 삭제 - 리뷰, 태그, 내용까지 엔티티를 로딩하지 않고 DELETE 로 삭제
+     * <p>
+     * 문제태그 → 리뷰태그 → 리뷰 → 문제 → 내용 순서로 삭제하므로 리뷰 개수와 상관없이 쿼리 수가 일정하다. 내용은 문제, 리뷰가
+     * FK 를 가지고 있어 마지막에 삭제한다. 삭제 전에 flush 하고, 삭제된 row 를 가리키는 엔티티가 남지 않도록 삭제 후 영속성
+     * 컨텍스트를 비운다.
+     *
+     * @return 삭제된 문제 수
+     */
+    public int deleteAllByIds(List<Long> problemIds) {
+        if (problemIds.isEmpty()) {
+            return 0;
+        }
+        em.flush();
+
+        List<Long> problemContentIds = em.createQuery(
+                        "select p.content.id from Problem p where p.id in :ids", Long.class)
+                .setParameter("ids", problemIds)
+                .getResultList();
+        List<Long> reviewContentIds = em.createQuery(
+                        "select r.content.id from Review r where r.problem.id in :ids", Long.class)
+                .setParameter("ids", problemIds)
+                .getResultList();
+
+        em.createQuery("delete from ProblemTag pt where pt.problem.id in :ids")
+                .setParameter("ids", problemIds)
+                .executeUpdate();
+        em.createQuery("delete from ReviewTag rt where rt.review.id in"
+                        + " (select r.id from Review r where r.problem.id in :ids)")
+                .setParameter("ids", problemIds)
+                .executeUpdate();
+        em.createQuery("delete from Review r where r.problem.id in :ids")
+                .setParameter("ids", problemIds)
+                .executeUpdate();
+        int deleted = em.createQuery("delete from Problem p where p.id in :ids")
+                .setParameter("ids", problemIds)
+                .executeUpdate();
+        deleteByIds("ProblemContent", problemContentIds);
+        deleteByIds("ReviewContent", reviewContentIds);
+
+        em.clear();
+        return deleted;
+    }
+
+    private void deleteByIds(String entityName, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        em.createQuery("delete from " + entityName + " e where e.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    /**
+     * 문제 row 가 변경되지 않아도(내용, 태그만 수정) 커밋 시 버전을 증가시킨다.
+     */
+    public void increaseVersion(Problem problem) {
+        em.lock(problem, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    }
+
 
 
 }
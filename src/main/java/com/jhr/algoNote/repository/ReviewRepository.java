@@ -3,9 +3,12 @@ package com.jhr.algoNote.repository;
 
 import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.domain.Review;
+import com.jhr.algoNote.dto.ResourceVersion;
+import java.time.LocalDateTime;
 import java.util.List;
 import javax.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @RequiredArgsConstructor
@@ -27,6 +30,76 @@ public class ReviewRepository {
     public List<Review> findByMemberId(Long memberId) {
         return em.createQuery("select r from Review r where r.member.id = :memberId ", Review.class)
             .setParameter("memberId", memberId)
+            .setHint(QueryHints.READ_ONLY, true)
             .getResultList();
     }
+
+    /**
+     * 회원이 작성한 리뷰 개수 (삭제 권한 확인용)
+     */
+    public long countByIdsAndMemberId(List<Long> reviewIds, Long memberId) {
+        return em.createQuery("select count(r) from Review r"
+                + " where r.id in :ids and r.member.id = :memberId", Long.class)
+            .setParameter("ids", reviewIds)
+            .setParameter("memberId", memberId)
+            .getSingleResult();
+    }
+
+    /**
+     * 리뷰들이 속한 문제 id
+     */
+    public List<Long> findProblemIds(List<Long> reviewIds) {
+        return em.createQuery("select distinct r.problem.id from Review r where r.id in :ids",
+                Long.class)
+            .setParameter("ids", reviewIds)
+            .getResultList();
+    }
+
+    /**
+     * 리뷰 일괄 삭제 - 리뷰태그 → 리뷰 → 내용 순서로 DELETE
+     * <p>
+     * 삭제 전에 flush 하고, 삭제 후 영속성 컨텍스트를 비운다. (ProblemRepository.deleteAllByIds 참고)
+     *
+     * @return 삭제된 리뷰 수
+     */
+    public int deleteAllByIds(List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return 0;
+        }
+        em.flush();
+
+        List<Long> contentIds = em.createQuery(
+                "select r.content.id from Review r where r.id in :ids", Long.class)
+            .setParameter("ids", reviewIds)
+            .getResultList();
+
+        em.createQuery("delete from ReviewTag rt where rt.review.id in :ids")
+            .setParameter("ids", reviewIds)
+            .executeUpdate();
+        int deleted = em.createQuery("delete from Review r where r.id in :ids")
+            .setParameter("ids", reviewIds)
+            .executeUpdate();
+        if (!contentIds.isEmpty()) {
+            em.createQuery("delete from ReviewContent rc where rc.id in :ids")
+                .setParameter("ids", contentIds)
+                .executeUpdate();
+        }
+
+        em.clear();
+        return deleted;
+    }
+
+    /**
+     * 리뷰 상세 버전 정보 조회 (수정일만 조회)
+     *
+     * @return 리뷰가 없으면 null
+     */
+    public ResourceVersion findVersion(Long id) {
+        List<LocalDateTime> results = em.createQuery(
+                "select r.modifiedDate from Review r where r.id = :id", LocalDateTime.class)
+            .setParameter("id", id)
+            .getResultList();
+
+        return results.isEmpty() ? null : new ResourceVersion(results.get(0), id);
+    }
 }
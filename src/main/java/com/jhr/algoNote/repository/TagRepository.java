@@ -4,6 +4,7 @@ import com.jhr.algoNote.domain.tag.Tag;
 import java.util.List;
 import javax.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -32,6 +33,8 @@ public class TagRepository {
 
 
     public List<Tag> findAll() {
-        return em.createQuery("select t from Tag t", Tag.class).getResultList();
+        return em.createQuery("select t from Tag t", Tag.class)
+            .setHint(QueryHints.READ_ONLY, true)
+            .getResultList();
     }
 }
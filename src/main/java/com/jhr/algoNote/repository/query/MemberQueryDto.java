@@ -0,0 +1,35 @@
+package com.jhr.algoNote.repository.query;
+
+import com.jhr.algoNote.domain.Role;
+import lombok.Getter;
+
+/**
+ * 회원 목록 조회용 projection, 연관된 문제/리뷰 컬렉션은 로딩하지 않는다.
+ */
+@Getter
+public class MemberQueryDto {
+
+    private final Long id;
+    private final String name;
+    private final String email;
+    private final String picture;
+    private final Role role;
+    //개수를 요청하지 않은 경우 null
+    private final Long problemCount;
+    private final Long reviewCount;
+
+    public MemberQueryDto(Long id, String name, String email, String picture, Role role) {
+        this(id, name, email, picture, role, null, null);
+    }
+
+    public MemberQueryDto(Long id, String name, String email, String picture, Role role,
+        Long problemCount, Long reviewCount) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.picture = picture;
+        this.role = role;
+        this.problemCount = problemCount;
+        this.reviewCount = reviewCount;
+    }
+}
@@ -0,0 +1,63 @@
+package com.jhr.algoNote.repository.query;
+
+import com.jhr.algoNote.domain.QMember;
+import com.jhr.algoNote.domain.QProblem;
+import com.jhr.algoNote.domain.QReview;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // == QueryDSL== //
+    QMember member = QMember.member;
+
+    /**
+     * 회원 목록 조회 (keyset 페이징)
+     *
+     * @param lastId     이전 페이지의 마지막 회원 id, 첫 페이지는 null
+     * @param size       페이지 크기
+     * @param withCounts true 이면 회원별 문제, 리뷰 개수를 같은 쿼리의 서브쿼리로 함께 조회
+     */
+    public List<MemberQueryDto> findMembers(Long lastId, int size, boolean withCounts) {
+        if (!withCounts) {
+            return jpaQueryFactory
+                .select(Projections.constructor(MemberQueryDto.class,
+                    member.id, member.name, member.email, member.picture, member.role))
+                .from(member)
+                .where(idGt(lastId))
+                .orderBy(member.id.asc())
+                .limit(size)
+                .fetch();
+        }
+
+        QProblem problem = QProblem.problem;
+        QReview review = QReview.review;
+        return jpaQueryFactory
+            .select(Projections.constructor(MemberQueryDto.class,
+                member.id, member.name, member.email, member.picture, member.role,
+                JPAExpressions.select(problem.count())
+                    .from(problem)
+                    .where(problem.member.eq(member)),
+                JPAExpressions.select(review.count())
+                    .from(review)
+                    .where(review.member.eq(member))))
+            .from(member)
+            .where(idGt(lastId))
+            .orderBy(member.id.asc())
+            .limit(size)
+            .fetch();
+    }
+
+    private BooleanExpression idGt(Long lastId) {
+        return lastId == null ? null : member.id.gt(lastId);
+    }
+}
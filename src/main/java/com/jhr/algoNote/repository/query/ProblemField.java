@@ -0,0 +1,62 @@
+package com.jhr.algoNote.repository.query;
+
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 문제 API 에서 선택적으로 조회할 수 있는 필드
+ * <p>
+ * key : 요청 파라미터(fields=)에 사용하는 이름, property : 응답 JSON 의 프로퍼티 이름
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProblemField {
+    ID("id", "problemId"),
+    TITLE("title", "problemTitle"),
+    SITE("site", "problemSite"),
+    URL("url", "problemUrl"),
+    WRITER("writer", "name"),
+    CONTENT("content", "problemContent"),
+    TAGS("tags", "problemTags"),
+    REVIEWS("reviews", "reviews"),
+    REVIEW_COUNT("reviewCount", "reviewCount"),
+    LAST_REVIEWED_AT("lastReviewedAt", "lastReviewedAt");
+
+    public static final String SUMMARY = "summary";
+
+    private final String key;
+    private final String property;
+
+    /**
+     * fields 파라미터를 필드 목록으로 변환
+     * <p>
+     * 비어있으면 전체 필드, summary 이면 id, title, site, tags
+     *
+     * @throws IllegalArgumentException 지원하지 않는 필드
+     */
+    public static Set<ProblemField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(ProblemField.class);
+        }
+        if (SUMMARY.equalsIgnoreCase(fields.trim())) {
+            return EnumSet.of(ID, TITLE, SITE, TAGS);
+        }
+
+        EnumSet<ProblemField> result = EnumSet.noneOf(ProblemField.class);
+        for (String key : fields.split(",")) {
+            result.add(fromKey(key.trim()));
+        }
+        return result;
+    }
+
+    private static ProblemField fromKey(String key) {
+        for (ProblemField field : values()) {
+            if (field.key.equalsIgnoreCase(key)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 필드입니다. (field=" + key + ")");
+    }
+}
@@ -0,0 +1,37 @@
+package com.jhr.algoNote.repository.query;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * API 조회용 문제 projection (엔티티를 로딩하지 않는다)
+ */
+@Getter
+public class ProblemQueryDto {
+
+    private final Long problemId;
+    private final String title;
+    private final String site;
+    private final String url;
+    private final String writerName;
+    private final String contentText;
+    private final Integer reviewCount;
+    private final LocalDateTime lastReviewedAt;
+
+    public ProblemQueryDto(Long problemId, String title, String site, String url,
+        String writerName, String contentText) {
+        this(problemId, title, site, url, writerName, contentText, null, null);
+    }
+
+    public ProblemQueryDto(Long problemId, String title, String site, String url,
+        String writerName, String contentText, Integer reviewCount, LocalDateTime lastReviewedAt) {
+        this.problemId = problemId;
+        this.title = title;
+        this.site = site;
+        this.url = url;
+        this.writerName = writerName;
+        this.contentText = contentText;
+        this.reviewCount = reviewCount;
+        this.lastReviewedAt = lastReviewedAt;
+    }
+}
@@ -3,18 +3,35 @@ package com.jhr.algoNote.repository.query;
 import com.jhr.algoNote.domain.Problem;
 import com.jhr.algoNote.domain.QMember;
 import com.jhr.algoNote.domain.QProblem;
+import com.jhr.algoNote.domain.QReview;
 import com.jhr.algoNote.domain.content.QProblemContent;
 import com.jhr.algoNote.domain.tag.QProblemTag;
+import com.jhr.algoNote.domain.tag.QTag;
+import com.jhr.algoNote.dto.ResourceVersion;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.hibernate.annotations.QueryHints;
 
 @Slf4j
 @Repository
@@ -31,8 +48,8 @@ public class ProblemQueryRepository {
 
     public List<Problem> search(ProblemSearch problemSearch) {
 
-        if (problemSearch.getMemberEmail() == null) {
-            throw new NullPointerException("검색 : 유저 이메일은 null일 수 없습니다.");
+        if (problemSearch.getMemberId() == null) {
+            throw new NullPointerException("검색 : 유저 id는 null일 수 없습니다.");
         }
 
         BooleanBuilder builder = new BooleanBuilder();
@@ -42,13 +59,16 @@ public class ProblemQueryRepository {
         builder.or(contentTagName(problemSearch.getKeyword())); //태그
         builder.or(contentTextLike(problemSearch.getKeyword())); //내용
 
-        // == 조회 ==
+        // == 조회 == (회원 id로 조회하므로 member join 불필요)
+        // 조회 전용이므로 읽기 전용으로 로딩 (최대 1000건의 스냅샷, flush 시 dirty checking 생략)
         List<Problem> result = jpaQueryFactory
                 .select(problem)
                 .from(problem)
-                .join(problem.member, member).on(member.email.eq(problemSearch.getMemberEmail()))
-                .where(builder)
+                .where(problem.member.id.eq(problemSearch.getMemberId()), builder,
+                        reviewCountGoe(problemSearch.getMinReviews()))
+                .orderBy(orderBy(problemSearch.getSort()))
                 .limit(1000)
+                .setHint(QueryHints.READ_ONLY, true)
                 .fetch();
 
         return result;
@@ -91,11 +111,361 @@ public class ProblemQueryRepository {
         QProblemContent problemContent = QProblemContent.problemContent;
         return jpaQueryFactory.select(problem)
                 .from(problem)
-                .join(problem.member, member)
-                .join(problem.content, problemContent)
+                .join(problem.member, member).fetchJoin()
+                .join(problem.content, problemContent).fetchJoin()
                 .limit(limit)
                 .offset(offset)
-                .fetchJoin()
                 .fetch();
     }
+
+    // == API 조회 (엔티티 대신 DTO로 조회) ==
+
+    /**
+     * 문제 페이지 조회, 작성자와 내용은 join 하여 한번에 가져온다.
+     */
+    public List<ProblemQueryDto> findProblemPage(int offset, int limit) {
+        return findProblemPage(offset, limit, EnumSet.allOf(ProblemField.class));
+    }
+
+    /**
+     * 요청된 필드만 select 하는 문제 페이지 조회
+     * <p>
+     * 작성자(member), 내용(Lob)은 요청된 경우에만 join 한다. 선택되지 않은 필드는 null
+     */
+    public List<ProblemQueryDto> findProblemPage(int offset, int limit, Set<ProblemField> fields) {
+        return findProblemPage(offset, limit, fields, ProblemSort.ID, null);
+    }
+
+    /**
+     * 정렬, 리뷰 개수 필터를 적용한 문제 페이지 조회 (Problem 의 reviewCount, lastReviewedAt 만 사용)
+     *
+     * @param minReviews 리뷰가 이 개수 이상인 문제만, null 이면 전체
+     */
+    public List<ProblemQueryDto> findProblemPage(int offset, int limit, Set<ProblemField> fields,
+                                                 ProblemSort sort, Integer minReviews) {
+        return toProblemQueryDtos(selectProblems(fields)
+                .where(reviewCountGoe(minReviews))
+                .orderBy(orderBy(sort))
+                .offset(offset)
+                .limit(limit)
+                .fetch(), fields);
+    }
+
+    /**
+     * 여러 문제를 IN 쿼리 1번으로 조회, 순서는 보장하지 않는다.
+     */
+    public List<ProblemQueryDto> findProblemsByIds(List<Long> problemIds, Set<ProblemField> fields) {
+        if (problemIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return toProblemQueryDtos(selectProblems(fields)
+                .where(problem.id.in(problemIds))
+                .fetch(), fields);
+    }
+
+    private JPAQuery<Tuple> selectProblems(Set<ProblemField> fields) {
+        QProblemContent problemContent = QProblemContent.problemContent;
+
+        // 태그, 리뷰 매핑을 위해 id는 항상 조회
+        List<Expression<?>> select = new ArrayList<>();
+        select.add(problem.id);
+        addIfContains(select, fields, ProblemField.TITLE, problem.title);
+        addIfContains(select, fields, ProblemField.SITE, problem.site);
+        addIfContains(select, fields, ProblemField.URL, problem.url);
+        addIfContains(select, fields, ProblemField.WRITER, member.name);
+        addIfContains(select, fields, ProblemField.CONTENT, problemContent.text);
+        addIfContains(select, fields, ProblemField.REVIEW_COUNT, problem.reviewCount);
+        addIfContains(select, fields, ProblemField.LAST_REVIEWED_AT, problem.lastReviewedAt);
+
+        JPAQuery<Tuple> query = jpaQueryFactory
+                .select(select.toArray(new Expression<?>[0]))
+                .from(problem);
+        if (fields.contains(ProblemField.WRITER)) {
+            query.join(problem.member, member);
+        }
+        if (fields.contains(ProblemField.CONTENT)) {
+            query.join(problem.content, problemContent);
+        }
+        return query;
+    }
+
+    private List<ProblemQueryDto> toProblemQueryDtos(List<Tuple> tuples, Set<ProblemField> fields) {
+        QProblemContent problemContent = QProblemContent.problemContent;
+        return tuples.stream()
+                .map(t -> new ProblemQueryDto(
+                        t.get(problem.id),
+                        fields.contains(ProblemField.TITLE) ? t.get(problem.title) : null,
+                        fields.contains(ProblemField.SITE) ? t.get(problem.site) : null,
+                        fields.contains(ProblemField.URL) ? t.get(problem.url) : null,
+                        fields.contains(ProblemField.WRITER) ? t.get(member.name) : null,
+                        fields.contains(ProblemField.CONTENT) ? t.get(problemContent.text) : null,
+                        fields.contains(ProblemField.REVIEW_COUNT) ? t.get(problem.reviewCount) : null,
+                        fields.contains(ProblemField.LAST_REVIEWED_AT)
+                                ? t.get(problem.lastReviewedAt) : null))
+                .collect(Collectors.toList());
+    }
+
+    private void addIfContains(List<Expression<?>> select, Set<ProblemField> fields,
+                               ProblemField field, Expression<?> expression) {
+        if (fields.contains(field)) {
+            select.add(expression);
+        }
+    }
+
+    /**
+     * 여러 문제의 태그 이름을 IN 쿼리 1번으로 조회
+     */
+    public List<ProblemTagQueryDto> findTagNames(List<Long> problemIds) {
+        if (problemIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        QTag tag = QTag.tag;
+        return jpaQueryFactory
+                .select(Projections.constructor(ProblemTagQueryDto.class,
+                        problemTag.problem.id,
+                        tag.name))
+                .from(problemTag)
+                .join(problemTag.tag, tag)
+                .where(problemTag.problem.id.in(problemIds))
+                .orderBy(problemTag.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 여러 문제의 리뷰 제목을 IN 쿼리 1번으로 조회
+     */
+    public List<ReviewTitleQueryDto> findReviewTitles(List<Long> problemIds) {
+        if (problemIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        QReview review = QReview.review;
+        return jpaQueryFactory
+                .select(Projections.constructor(ReviewTitleQueryDto.class,
+                        review.problem.id,
+                        review.title))
+                .from(review)
+                .where(review.problem.id.in(problemIds))
+                .orderBy(review.id.asc())
+                .fetch();
+    }
+
+    // == 버전 조회 (ETag) ==
+
+    /**
+     * 문제 상세 버전 : 문제 버전, 수정일 + 리뷰 개수, 마지막 리뷰 수정일
+     *
+     * @return 문제가 없으면 null
+     */
+    public ResourceVersion findVersion(Long problemId) {
+        QReview review = QReview.review;
+        NumberExpression<Long> reviewCount = review.id.count();
+        DateTimeExpression<LocalDateTime> reviewModified = review.modifiedDate.max();
+
+        Tuple result = jpaQueryFactory
+                .select(problem.version, problem.modifiedDate, reviewCount, reviewModified)
+                .from(problem)
+                .leftJoin(problem.reviews, review)
+                .where(problem.id.eq(problemId))
+                .groupBy(problem.id, problem.version, problem.modifiedDate)
+                .fetchOne();
+
+        if (result == null) {
+            return null;
+        }
+        return new ResourceVersion(
+                ResourceVersion.latest(result.get(problem.modifiedDate), result.get(reviewModified)),
+                problemId, result.get(problem.version), result.get(reviewCount));
+    }
+
+    /**
+     * 문제 페이지 버전 : 페이지에 포함된 문제의 id, 버전, 리뷰 개수 + 작성자 수정일, 페이지 문제들의 리뷰
+     * <p>
+     * findProblemPage 와 같은 조건, 정렬로 메타데이터 컬럼만 조회하므로 비용은 페이지 조회와 같다. (전체 테이블 집계 없음)
+     * 페이지에 들어오거나 빠진 문제는 id 목록으로 드러난다. 태그 수정은 문제 버전을 올린다.
+     */
+    public ResourceVersion findPageVersion(int offset, int limit, ProblemSort sort, Integer minReviews) {
+        QReview review = QReview.review;
+        List<Tuple> rows = jpaQueryFactory
+                .select(problem.id, problem.version, problem.modifiedDate, member.modifiedDate,
+                        problem.reviewCount, problem.lastReviewedAt)
+                .from(problem)
+                .join(problem.member, member)
+                .where(reviewCountGoe(minReviews))
+                .orderBy(orderBy(sort))
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+        if (rows.isEmpty()) {
+            return new ResourceVersion(null, 0);
+        }
+
+        List<Long> problemIds = new ArrayList<>();
+        StringBuilder problems = new StringBuilder();
+        LocalDateTime lastModified = null;
+        for (Tuple row : rows) {
+            problemIds.add(row.get(problem.id));
+            problems.append(row.get(problem.id)).append('.').append(row.get(problem.version))
+                    .append('.').append(row.get(problem.reviewCount)).append(',');
+            lastModified = ResourceVersion.latest(lastModified, row.get(problem.modifiedDate));
+            lastModified = ResourceVersion.latest(lastModified, row.get(member.modifiedDate));
+            lastModified = ResourceVersion.latest(lastModified, row.get(problem.lastReviewedAt));
+        }
+
+        NumberExpression<Long> reviewCount = review.id.count();
+        DateTimeExpression<LocalDateTime> reviewModified = review.modifiedDate.max();
+        Tuple reviews = jpaQueryFactory
+                .select(reviewCount, reviewModified)
+                .from(review)
+                .where(review.problem.id.in(problemIds))
+                .fetchOne();
+
+        return new ResourceVersion(ResourceVersion.latest(lastModified, reviews.get(reviewModified)),
+                rows.size(), problems, reviews.get(reviewCount));
+    }
+
+    /**
+     * 문제 목록 버전 : 문제 개수, 버전 합계, 마지막 수정일 (+ 작성자, 리뷰)
+     *
+     * @param memberId null 이면 전체 문제
+     */
+    public ResourceVersion findCollectionVersion(Long memberId) {
+        QReview review = QReview.review;
+        NumberExpression<Long> problemCount = problem.id.count();
+        NumberExpression<Long> versionSum = problem.version.sum();
+        DateTimeExpression<LocalDateTime> problemModified = problem.modifiedDate.max();
+        DateTimeExpression<LocalDateTime> memberModified = member.modifiedDate.max();
+        NumberExpression<Long> reviewCount = review.id.count();
+        DateTimeExpression<LocalDateTime> reviewModified = review.modifiedDate.max();
+
+        Tuple problems = jpaQueryFactory
+                .select(problemCount, versionSum, problemModified, memberModified)
+                .from(problem)
+                .join(problem.member, member)
+                .where(memberIdEq(memberId))
+                .fetchOne();
+        Tuple reviews = jpaQueryFactory
+                .select(reviewCount, reviewModified)
+                .from(review)
+                .join(review.member, member)
+                .where(memberIdEq(memberId))
+                .fetchOne();
+
+        LocalDateTime lastModified = ResourceVersion.latest(
+                ResourceVersion.latest(problems.get(problemModified), problems.get(memberModified)),
+                reviews.get(reviewModified));
+        return new ResourceVersion(lastModified, memberId,
+                problems.get(problemCount), problems.get(versionSum), reviews.get(reviewCount));
+    }
+
+    /**
+     * 복습할 문제 목록 (복습 시각순)
+     * <p>
+     * (member_id, next_review_at) 인덱스 범위 조회 1번으로 처리한다.
+     *
+     * @param until 이 시각 이전에 복습 예정인 문제
+     */
+    public List<ScheduledProblemQueryDto> findDueProblems(Long memberId, LocalDateTime until,
+                                                          int limit) {
+        return jpaQueryFactory
+                .select(scheduledProblem())
+                .from(problem)
+                .where(problem.member.id.eq(memberId),
+                        problem.schedule.nextReviewAt.lt(until))
+                .orderBy(problem.schedule.nextReviewAt.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 복습할 문제 개수
+     *
+     * @param until 이 시각 이전에 복습 예정인 문제
+     */
+    public long countDueProblems(Long memberId, LocalDateTime until) {
+        return jpaQueryFactory
+                .select(problem.id.count())
+                .from(problem)
+                .where(problem.member.id.eq(memberId),
+                        problem.schedule.nextReviewAt.lt(until))
+                .fetchOne();
+    }
+
+    /**
+     * 회원별 복습할 문제 개수
+     *
+     * @param until 이 시각 이전에 복습 예정인 문제
+     * @return 회원 id - 개수, 복습할 문제가 없는 회원은 포함하지 않는다
+     */
+    public Map<Long, Long> countDueProblemsByMember(LocalDateTime until) {
+        NumberExpression<Long> count = problem.id.count();
+        return jpaQueryFactory
+                .select(problem.member.id, count)
+                .from(problem)
+                .where(problem.schedule.nextReviewAt.lt(until))
+                .groupBy(problem.member.id)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(t -> t.get(problem.member.id), t -> t.get(count)));
+    }
+
+    /**
+     * 복습 시각이 [from, to) 인 문제 (next_review_at 인덱스 범위 조회)
+     */
+    public List<ScheduledProblemQueryDto> findScheduledBetween(LocalDateTime from,
+                                                               LocalDateTime to) {
+        return jpaQueryFactory
+                .select(scheduledProblem())
+                .from(problem)
+                .where(problem.schedule.nextReviewAt.goe(from),
+                        problem.schedule.nextReviewAt.lt(to))
+                .fetch();
+    }
+
+    /**
+     * id 목록의 작성자, 복습 시각 (삭제 전 확인용)
+     */
+    public List<ScheduledProblemQueryDto> findScheduledByIds(List<Long> problemIds) {
+        if (problemIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return jpaQueryFactory
+                .select(scheduledProblem())
+                .from(problem)
+                .where(problem.id.in(problemIds))
+                .fetch();
+    }
+
+    private Expression<ScheduledProblemQueryDto> scheduledProblem() {
+        return Projections.constructor(ScheduledProblemQueryDto.class,
+                problem.id, problem.member.id, problem.title, problem.site,
+                problem.schedule.nextReviewAt);
+    }
+
+    private BooleanExpression reviewCountGoe(Integer minReviews) {
+        return minReviews == null ? null : problem.reviewCount.goe(minReviews);
+    }
+
+    /**
+     * 정렬 조건, sort 가 null 이면 id 순
+     */
+    private OrderSpecifier<?>[] orderBy(ProblemSort sort) {
+        if (sort == null) {
+            sort = ProblemSort.ID;
+        }
+        switch (sort) {
+            case LATEST:
+                return new OrderSpecifier<?>[]{problem.id.desc()};
+            case REVIEW_COUNT:
+                return new OrderSpecifier<?>[]{problem.reviewCount.desc(), problem.id.desc()};
+            case LAST_REVIEWED:
+                return new OrderSpecifier<?>[]{problem.lastReviewedAt.desc().nullsLast(),
+                        problem.id.desc()};
+            default:
+                return new OrderSpecifier<?>[]{problem.id.asc()};
+        }
+    }
+
+    private BooleanExpression memberIdEq(Long memberId) {
+        return memberId == null ? null : member.id.eq(memberId);
+    }
 }
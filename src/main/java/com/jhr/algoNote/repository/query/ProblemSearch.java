@@ -9,15 +9,18 @@ import lombok.Setter;
 @Setter
 public class ProblemSearch {
     private final String site;
-    private String memberEmail;
+    private Long memberId;
     private String keyword;
+    //정렬, 리뷰 개수 필터 (선택)
+    private ProblemSort sort;
+    private Integer minReviews;
 
 
 
     @Builder
-    public ProblemSearch(String site, String memberEmail, String keyword) {
+    public ProblemSearch(String site, Long memberId, String keyword) {
         this.site = site;
-        this.memberEmail = memberEmail;
+        this.memberId = memberId;
         this.keyword = keyword;
     }
 }
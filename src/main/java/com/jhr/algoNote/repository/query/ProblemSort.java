@@ -0,0 +1,15 @@
+package com.jhr.algoNote.repository.query;
+
+/**
+ * 문제 목록 정렬 기준 (요청 파라미터 sort= 에 이름 그대로 사용)
+ */
+public enum ProblemSort {
+    // id 오름차순
+    ID,
+    // 최근 등록순
+    LATEST,
+    // 리뷰 많은순
+    REVIEW_COUNT,
+    // 최근 리뷰순, 리뷰가 없는 문제는 마지막
+    LAST_REVIEWED
+}
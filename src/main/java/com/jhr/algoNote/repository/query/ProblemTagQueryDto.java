@@ -0,0 +1,18 @@
+package com.jhr.algoNote.repository.query;
+
+import lombok.Getter;
+
+/**
+ * 문제 id - 태그 이름 projection
+ */
+@Getter
+public class ProblemTagQueryDto {
+
+    private final Long problemId;
+    private final String tagName;
+
+    public ProblemTagQueryDto(Long problemId, String tagName) {
+        this.problemId = problemId;
+        this.tagName = tagName;
+    }
+}
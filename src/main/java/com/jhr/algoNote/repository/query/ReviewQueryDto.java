@@ -0,0 +1,31 @@
+package com.jhr.algoNote.repository.query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 리뷰 목록 조회용 projection, 문제는 제목만 조회하고 태그는 이름만 별도 쿼리로 채운다.
+ */
+@Getter
+public class ReviewQueryDto {
+
+    private final Long reviewId;
+    private final String title;
+    private final Long problemId;
+    private final String problemTitle;
+    private final LocalDateTime createdDate;
+    private final LocalDateTime modifiedDate;
+    private final List<String> tagNames = new ArrayList<>();
+
+    public ReviewQueryDto(Long reviewId, String title, Long problemId, String problemTitle,
+        LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        this.reviewId = reviewId;
+        this.title = title;
+        this.problemId = problemId;
+        this.problemTitle = problemTitle;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+    }
+}
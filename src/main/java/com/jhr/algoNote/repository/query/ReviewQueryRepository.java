@@ -0,0 +1,91 @@
+package com.jhr.algoNote.repository.query;
+
+import com.jhr.algoNote.domain.QProblem;
+import com.jhr.algoNote.domain.QReview;
+import com.jhr.algoNote.domain.tag.QReviewTag;
+import com.jhr.algoNote.domain.tag.QTag;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ReviewQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // == QueryDSL== //
+    QReview review = QReview.review;
+    QProblem problem = QProblem.problem;
+    QReviewTag reviewTag = QReviewTag.reviewTag;
+    QTag tag = QTag.tag;
+
+    /**
+     * 회원의 리뷰 목록 조회 (최신순, keyset 페이징)
+     * <p>
+     * (member_id, created_date) 인덱스를 사용하며, 리뷰 목록 1번 + 태그 1번 쿼리로 조회한다.
+     *
+     * @param lastId 이전 페이지의 마지막 리뷰 id, 첫 페이지는 null
+     * @param size   페이지 크기
+     */
+    public List<ReviewQueryDto> findReviews(Long memberId, Long lastId, int size) {
+        List<ReviewQueryDto> reviews = jpaQueryFactory
+            .select(Projections.constructor(ReviewQueryDto.class,
+                review.id, review.title, problem.id, problem.title,
+                review.createdDate, review.modifiedDate))
+            .from(review)
+            .join(review.problem, problem)
+            .where(review.member.id.eq(memberId), before(lastId))
+            .orderBy(review.createdDate.desc(), review.id.desc())
+            .limit(size)
+            .fetch();
+
+        if (!reviews.isEmpty()) {
+            fillTagNames(reviews);
+        }
+        return reviews;
+    }
+
+    private void fillTagNames(List<ReviewQueryDto> reviews) {
+        Map<Long, ReviewQueryDto> reviewMap = reviews.stream()
+            .collect(Collectors.toMap(ReviewQueryDto::getReviewId, Function.identity()));
+
+        List<Tuple> tuples = jpaQueryFactory
+            .select(reviewTag.review.id, tag.name)
+            .from(reviewTag)
+            .join(reviewTag.tag, tag)
+            .where(reviewTag.review.id.in(reviewMap.keySet()))
+            .orderBy(reviewTag.id.asc())
+            .fetch();
+
+        for (Tuple tuple : tuples) {
+            reviewMap.get(tuple.get(reviewTag.review.id)).getTagNames().add(tuple.get(tag.name));
+        }
+    }
+
+    /**
+     * 마지막 리뷰보다 먼저 작성된 리뷰 (작성일이 같으면 id 로 비교)
+     */
+    private BooleanExpression before(Long lastId) {
+        if (lastId == null) {
+            return null;
+        }
+        QReview last = new QReview("lastReview");
+        JPQLQuery<LocalDateTime> lastCreatedDate = JPAExpressions
+            .select(last.createdDate)
+            .from(last)
+            .where(last.id.eq(lastId));
+        return review.createdDate.lt(lastCreatedDate)
+            .or(review.createdDate.eq(lastCreatedDate).and(review.id.lt(lastId)));
+    }
+}
@@ -0,0 +1,18 @@
+package com.jhr.algoNote.repository.query;
+
+import lombok.Getter;
+
+/**
+ * 문제 id - 리뷰 제목 projection
+ */
+@Getter
+public class ReviewTitleQueryDto {
+
+    private final Long problemId;
+    private final String title;
+
+    public ReviewTitleQueryDto(Long problemId, String title) {
+        this.problemId = problemId;
+        this.title = title;
+    }
+}
@@ -0,0 +1,26 @@
+package com.jhr.algoNote.repository.query;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 복습 일정 조회용 projection
+ */
+@Getter
+public class ScheduledProblemQueryDto {
+
+    private final Long problemId;
+    private final Long memberId;
+    private final String title;
+    private final String site;
+    private final LocalDateTime nextReviewAt;
+
+    public ScheduledProblemQueryDto(Long problemId, Long memberId, String title, String site,
+        LocalDateTime nextReviewAt) {
+        this.problemId = problemId;
+        this.memberId = memberId;
+        this.title = title;
+        this.site = site;
+        this.nextReviewAt = nextReviewAt;
+    }
+}
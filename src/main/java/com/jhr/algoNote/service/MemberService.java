@@ -1,12 +1,16 @@
 package com.jhr.algoNote.service;
 
+import com.jhr.algoNote.cache.MemberEmailFilter;
 import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.exception.EmailRedundancyException;
 import com.jhr.algoNote.repository.MemberRepository;
+import com.jhr.algoNote.repository.query.MemberQueryDto;
+import com.jhr.algoNote.repository.query.MemberQueryRepository;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +21,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberQueryRepository memberQueryRepository;
+    private final MemberEmailFilter memberEmailFilter;
+
+    public static final int MAX_PAGE_SIZE = 100;
 
     /**
      * 회원 가입
@@ -24,13 +32,28 @@ public class MemberService {
     @Transactional
     public Long join(Member member) {
         validateDuplicateEmail(member); //중복 회원 검증
-        return memberRepository.save(member);
+        Long id;
+        try {
+            id = memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            // 검증 이후 같은 이메일 가입이 먼저 커밋된 경우 (email unique 제약)
+            log.info("This email is already exist (email= {})", member.getEmail());
+            throw new EmailRedundancyException("동일한 이메일로 중복 가입 할 수 없습니다.");
+        }
+        memberEmailFilter.put(member.getEmail());
+        return id;
     }
 
     /**
      * 중복 회원 검증 - 이메일 검증
      */
     private void validateDuplicateEmail(Member member) {
+        if (!memberEmailFilter.mightContain(member.getEmail())) {
+            // Bloom filter 에 없으면 확실히 가입되지 않은 이메일
+            log.info("This Email is not duplicated(email= {})", member.getEmail());
+            return;
+        }
+
         List<Member> findMembers = memberRepository.findByEmail(member.getEmail());
 
         if (!findMembers.isEmpty()) {
@@ -48,8 +71,24 @@ public class MemberService {
         return memberRepository.findAll();
     }
 
+    /**
+     * 회원 목록 조회 (keyset 페이징, DTO 조회)
+     *
+     * @param lastId     이전 페이지의 마지막 회원 id, 첫 페이지는 null
+     * @param size       페이지 크기 (최대 MAX_PAGE_SIZE)
+     * @param withCounts 회원별 문제, 리뷰 개수 포함 여부
+     */
+    public List<MemberQueryDto> findMembers(Long lastId, int size, boolean withCounts) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 이어야 합니다.");
+        }
+        return memberQueryRepository.findMembers(lastId, size, withCounts);
+    }
+
     /**
      * 회원 id로 조회 (단건 조회)
+     * <p>
+     * 2차 캐시(member region)에 있으면 DB 를 조회하지 않는다.
      * @Throw IllegalArgumentException 등록되지 않은 회원입니다.
      */
     public Member findOne(Long memberId) {
@@ -63,11 +102,17 @@ public class MemberService {
 
     /**
      * 회원 이메일로 조회 (단건 조회)
+     * <p>
+     * 이메일 필터에 없는 이메일은 조회하지 않는다.
      */
     public Member findByEmail(String email) {
         if (email == null) {
             throw new NullPointerException("입력된 이메일이 null 입니다.");
         }
+        if (!memberEmailFilter.mightContain(email)) {
+            // Bloom filter 에 없으면 확실히 가입되지 않은 이메일
+            throw new IllegalArgumentException("등록되지 않은 회원입니다.");
+        }
 
         List<Member> results = memberRepository.findByEmail(email);
         if (results.isEmpty()) {
@@ -88,6 +133,5 @@ public class MemberService {
         if (!picture.isEmpty()) {
             member.updatePicture(picture);
         }
-
     }
 }
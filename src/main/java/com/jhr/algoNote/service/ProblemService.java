@@ -1,25 +1,36 @@
 package com.jhr.algoNote.service;
 
+import com.jhr.algoNote.config.db.ReadYourWritesTracker;
 import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.domain.Problem;
+import com.jhr.algoNote.domain.ReviewSchedule;
 import com.jhr.algoNote.domain.content.ProblemContent;
 import com.jhr.algoNote.domain.tag.ProblemTag;
 import com.jhr.algoNote.domain.tag.Tag;
 import com.jhr.algoNote.dto.ProblemCreateRequest;
 import com.jhr.algoNote.dto.ProblemUpdateRequest;
+import com.jhr.algoNote.dto.ResourceVersion;
 import com.jhr.algoNote.repository.ProblemRepository;
 import com.jhr.algoNote.repository.ProblemTagRepository;
 import com.jhr.algoNote.repository.query.ProblemQueryRepository;
 import com.jhr.algoNote.repository.query.ProblemSearch;
+import com.jhr.algoNote.repository.query.ScheduledProblemQueryDto;
+import com.jhr.algoNote.service.schedule.DueCountWheel;
+import com.jhr.algoNote.service.schedule.ProblemScheduledEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static java.lang.Boolean.TRUE;
 
@@ -35,11 +46,17 @@ public class ProblemService {
     private final ProblemQueryRepository problemQueryRepository;
 
     private final ProblemTagRepository problemTagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DueCountWheel dueCountWheel;
+    private final ReadYourWritesTracker readYourWrites;
+
+    public static final int DUE_QUEUE_SIZE = 100;
 
     /**
      * OCP를 위배하고 비효율적임
      */
     @Deprecated
+    @Timed(value = "algonote.problem.register", description = "문제 등록")
     @Transactional
     public Long register(@NonNull Long memberId, @NonNull String title, @NonNull String content) {
         return register(memberId, title, content, null, null, null);
@@ -49,6 +66,7 @@ public class ProblemService {
      * OCP를 위배하고 비효율적임
      */
     @Deprecated
+    @Timed(value = "algonote.problem.register", description = "문제 등록")
     @Transactional
     public Long register(@NonNull Long memberId, @NonNull String title, @NonNull String content,
                          String tagText) {
@@ -59,6 +77,7 @@ public class ProblemService {
      * 문제 등록 with site and url,  ProblemCreateRequest 를 인자로 받는 다른 register 사용을 권장
      */
     @Deprecated
+    @Timed(value = "algonote.problem.register", description = "문제 등록")
     @Transactional
     public Long register(@NonNull Long memberId, @NonNull String title, @NonNull String content,
                          String tagText, String site, String url) {
@@ -72,7 +91,7 @@ public class ProblemService {
         List<ProblemTag> problemTagList = createProblemTagListWithText(tagText);
 
         //문제 생성 후 제목, 내용, 태그 등록
-        return problemRepository.save(
+        return saveAndSchedule(memberId,
                 Problem.builder()
                         .member(member)
                         .title(title)
@@ -84,6 +103,18 @@ public class ProblemService {
         );
     }
 
+    /**
+     * 문제 저장 후 복습 일정 등록 이벤트 발행
+     */
+    private Long saveAndSchedule(Long memberId, Problem problem) {
+        Long problemId = problemRepository.save(problem);
+        eventPublisher.publishEvent(
+                new ProblemScheduledEvent(problemId, memberId, null, problem.getNextReviewAt()));
+        //등록 직후 상세 화면은 복제 DB 가 아닌 원본에서 조회
+        readYourWrites.markWrite(memberId);
+        return problemId;
+    }
+
     /**
      * tagNames 을 활용하여 problemTagList 생성
      */
@@ -116,9 +147,9 @@ public class ProblemService {
 
 
     /**
-     * 검색
+     * 검색 (읽기 전용 - 결과 엔티티는 dirty checking 대상이 아니다)
      */
-    @Transactional
+    @Timed(value = "algonote.problem.search", description = "문제 검색")
     public List<Problem> search(ProblemSearch problemSearch) {
         return safe(problemQueryRepository.search(problemSearch));
     }
@@ -130,6 +161,7 @@ public class ProblemService {
      * @param problemCreateRequest DTO
      * @return problemId
      */
+    @Timed(value = "algonote.problem.register", description = "문제 등록")
     @Transactional
     public Long register(@NonNull Long memberId, ProblemCreateRequest problemCreateRequest) {
         //엔티티 조회
@@ -144,7 +176,7 @@ public class ProblemService {
                 problemCreateRequest.getTagText());
 
         //문제 생성 후 제목, 내용, 태그 등록
-        return problemRepository.save(
+        return saveAndSchedule(memberId,
                 Problem.builder()
                         .member(member)
                         .title(problemCreateRequest.getTitle())
@@ -156,10 +188,102 @@ public class ProblemService {
         );
     }
 
+    /**
+     * 오늘 복습할 문제 목록 (복습 시각순, 최대 DUE_QUEUE_SIZE 개)
+     */
+    public List<ScheduledProblemQueryDto> findDueProblems(@NonNull Long memberId) {
+        LocalDateTime tomorrow = LocalDate.now().plusDays(1).atStartOfDay();
+        return problemQueryRepository.findDueProblems(memberId, tomorrow, DUE_QUEUE_SIZE);
+    }
+
+    /**
+     * 지금 복습할 문제 개수 (timing wheel, 준비 전이면 DB 조회)
+     */
+    public long countDueProblems(@NonNull Long memberId) {
+        Long count = dueCountWheel.getDueCount(memberId);
+        if (count != null) {
+            return count;
+        }
+        return problemQueryRepository.countDueProblems(memberId, LocalDateTime.now());
+    }
+
+    /**
+     * 리뷰 작성 반영 (리뷰 개수, 마지막 리뷰 시각, 복습 일정)
+     */
+    @Transactional
+    public void recordReview(Long problemId, ReviewSchedule schedule, LocalDateTime reviewedAt) {
+        problemRepository.recordReview(problemId, schedule, reviewedAt);
+    }
+
+    /**
+     * 리뷰 삭제 반영 (남은 리뷰로 리뷰 개수, 마지막 리뷰 시각 계산)
+     */
+    @Transactional
+    public void refreshReviewStats(List<Long> problemIds) {
+        problemRepository.refreshReviewStats(problemIds);
+    }
+
+    /**
+     * 문제 삭제 (리뷰, 태그, 내용 포함)
+     *
+     * @throws IllegalArgumentException 존재하지 않는 문제, 작성자가 아닌 경우
+     */
+    @Transactional
+    public void delete(@NonNull Long memberId, @NonNull Long problemId) {
+        deleteAll(memberId, List.of(problemId));
+    }
+
+    /**
+     * 문제 일괄 삭제, 리뷰 수와 상관없이 몇 개의 DELETE 로 처리한다.
+     *
+     * @return 삭제된 문제 수
+     * @throws IllegalArgumentException 존재하지 않는 문제가 있거나, 작성자가 아닌 문제가 있는 경우
+     */
+    @Transactional
+    public int deleteAll(@NonNull Long memberId, @NonNull List<Long> problemIds) {
+        List<Long> ids = problemIds.stream().distinct().collect(Collectors.toList());
+        List<ScheduledProblemQueryDto> problems = problemQueryRepository.findScheduledByIds(ids);
+        if (problems.size() != ids.size()) {
+            throw new IllegalArgumentException("존재하지 않는 문제입니다.");
+        }
+        for (ScheduledProblemQueryDto problem : problems) {
+            if (!memberId.equals(problem.getMemberId())) {
+                throw new IllegalArgumentException("작성자가 아닙니다.");
+            }
+        }
+
+        int deleted = problemRepository.deleteAllByIds(ids);
+
+        //복습 일정에서 제거
+        for (ScheduledProblemQueryDto problem : problems) {
+            eventPublisher.publishEvent(new ProblemScheduledEvent(problem.getProblemId(), memberId,
+                    problem.getNextReviewAt(), null));
+        }
+        //삭제 후 이동하는 문제 목록은 원본 DB 에서 조회
+        readYourWrites.markWrite(memberId);
+        return deleted;
+    }
+
     public Problem findOne(Long id) {
         return problemRepository.findById(id);
     }
 
+    /**
+     * 문제 상세의 버전 정보 조회 (문제, 리뷰 메타데이터만 조회)
+     *
+     * @return 문제가 없으면 null
+     */
+    public ResourceVersion findVersion(Long id) {
+        return problemQueryRepository.findVersion(id);
+    }
+
+    /**
+     * 회원이 등록한 문제 목록의 버전 정보 조회
+     */
+    public ResourceVersion findCollectionVersion(Long memberId) {
+        return problemQueryRepository.findCollectionVersion(memberId);
+    }
+
 
     /**
      * 문제 수정, 수정시 요청자와 문제 작성자가 다르면 예외 발생
@@ -169,6 +293,7 @@ public class ProblemService {
      * @return 수정된 문제의 id
      * @throws IllegalArgumentException 작성자가 아닙니다.
      */
+    @Timed(value = "algonote.problem.edit", description = "문제 수정")
     @Transactional
     public Long edit(@NonNull Long memberId, ProblemUpdateRequest problemUpdateRequest) {
         //엔티티 조회
@@ -188,6 +313,9 @@ public class ProblemService {
         //문제 update
         problem.update(problemUpdateRequest.getTitle(), problemUpdateRequest.getSite(),
                 problemUpdateRequest.getUrl());
+        //내용, 태그만 수정된 경우에도 버전 증가
+        problemRepository.increaseVersion(problem);
+        readYourWrites.markWrite(memberId);
 
         return problem.getId();
     }
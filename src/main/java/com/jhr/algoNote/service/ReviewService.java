@@ -1,17 +1,28 @@
 package com.jhr.algoNote.service;
 
+import com.jhr.algoNote.config.db.ReadYourWritesTracker;
 import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.domain.Problem;
 import com.jhr.algoNote.domain.Review;
+import com.jhr.algoNote.domain.ReviewSchedule;
 import com.jhr.algoNote.domain.content.ReviewContent;
 import com.jhr.algoNote.domain.tag.ReviewTag;
 import com.jhr.algoNote.domain.tag.Tag;
+import com.jhr.algoNote.dto.ResourceVersion;
 import com.jhr.algoNote.dto.ReviewCreateRequest;
 import com.jhr.algoNote.repository.ReviewRepository;
+import com.jhr.algoNote.repository.query.ReviewQueryDto;
+import com.jhr.algoNote.repository.query.ReviewQueryRepository;
+import com.jhr.algoNote.service.schedule.ProblemScheduledEvent;
+import io.micrometer.core.annotation.Timed;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,11 +33,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final ReviewQueryRepository reviewQueryRepository;
     private final TagService tagService;
 
     private final ProblemService problemService;
     private final MemberService memberService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadYourWritesTracker readYourWrites;
 
+    public static final int MAX_PAGE_SIZE = 100;
+
+    @Timed(value = "algonote.review.create", description = "리뷰 작성")
     @Transactional
     public Long createReview(Long memberId, ReviewCreateRequest reviewCreateRequest) {
 
@@ -52,11 +69,23 @@ public class ReviewService {
             .content(rc)//(2)
             .build();
 
-        return reviewRepository.save(review);
+        //(3)복습 일정 계산
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oldDueAt = problem.getNextReviewAt();
+        ReviewSchedule schedule = problem.nextSchedule(getQuality(reviewCreateRequest), now);
+
+        Long reviewId = reviewRepository.save(review);
+        //리뷰 개수, 마지막 리뷰 시각, 복습 일정 반영 (UPDATE 1번)
+        problemService.recordReview(problem.getId(), schedule, now);
+        eventPublisher.publishEvent(new ProblemScheduledEvent(problem.getId(), memberId,
+            oldDueAt, schedule.getNextReviewAt()));
+        //작성 후 이동하는 문제 상세 화면은 원본 DB 에서 조회
+        readYourWrites.markWrite(memberId);
+        return reviewId;
     }
 
     private void validateWriterAndEditorAreSame(Member member, Problem problem) {
-        if (member.getId() != problem.getMember().getId()) {
+        if (!member.getId().equals(problem.getMember().getId())) {
             log.info(
                 "user attempt to write a review with other member id (user id={}, stolen id={})",
                 member.getId(), problem.getId());
@@ -64,6 +93,11 @@ public class ReviewService {
         }
     }
 
+    private int getQuality(ReviewCreateRequest reviewCreateRequest) {
+        Integer quality = reviewCreateRequest.getQuality();
+        return quality == null ? ReviewSchedule.DEFAULT_QUALITY : quality;
+    }
+
     private void validateReviewContentIsNotNull(ReviewCreateRequest reviewCreateRequest) {
         if (reviewCreateRequest.getContentText() == null) {
             log.info("review text is null");
@@ -89,6 +123,42 @@ public class ReviewService {
         return reviewTagList;
     }
 
+    /**
+     * 리뷰 삭제
+     *
+     * @throws IllegalArgumentException 존재하지 않는 리뷰, 작성자가 아닌 경우
+     */
+    @Transactional
+    public void delete(@NonNull Long memberId, @NonNull Long reviewId) {
+        deleteAll(memberId, List.of(reviewId));
+    }
+
+    /**
+     * 리뷰 일괄 삭제 후 문제의 리뷰 개수, 마지막 리뷰 시각을 다시 계산한다. (복습 일정은 유지)
+     *
+     * @return 삭제된 리뷰 수
+     * @throws IllegalArgumentException 존재하지 않거나 작성자가 아닌 리뷰가 있는 경우
+     */
+    @Transactional
+    public int deleteAll(@NonNull Long memberId, @NonNull List<Long> reviewIds) {
+        List<Long> ids = reviewIds.stream().distinct().collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (reviewRepository.countByIdsAndMemberId(ids, memberId) != ids.size()) {
+            log.info("user attempt to delete reviews of other member (user id={}, review ids={})",
+                memberId, ids);
+            throw new IllegalArgumentException("작성자가 아니거나 존재하지 않는 리뷰입니다.");
+        }
+
+        List<Long> problemIds = reviewRepository.findProblemIds(ids);
+        int deleted = reviewRepository.deleteAllByIds(ids);
+        problemService.refreshReviewStats(problemIds);
+        //삭제 후 이동하는 문제 상세 화면(리뷰 목록, 리뷰 개수)은 원본 DB 에서 조회
+        readYourWrites.markWrite(memberId);
+        return deleted;
+    }
+
     /**
      * 회원ID로 해당 회원이 작성한 모든 리뷰를 조회한다.
      *
@@ -99,6 +169,19 @@ public class ReviewService {
         return reviewRepository.findByMemberId(memberId);
     }
 
+    /**
+     * 회원의 리뷰 목록 조회 (최신순, keyset 페이징, DTO 조회)
+     *
+     * @param lastId 이전 페이지의 마지막 리뷰 id, 첫 페이지는 null
+     * @param size   페이지 크기 (최대 MAX_PAGE_SIZE)
+     */
+    public List<ReviewQueryDto> findReviews(@NonNull Long memberId, Long lastId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 이어야 합니다.");
+        }
+        return reviewQueryRepository.findReviews(memberId, lastId, size);
+    }
+
     /**
      * 리뷰 Id로 단건 조회한다.
      */
@@ -106,6 +189,15 @@ public class ReviewService {
         return reviewRepository.findOne(reviewId);
     }
 
+    /**
+     * 리뷰 상세의 버전 정보 조회
+     *
+     * @return 리뷰가 없으면 null
+     */
+    public ResourceVersion findVersion(Long reviewId) {
+        return reviewRepository.findVersion(reviewId);
+    }
+
     /**
      * ReviewTagList를 String으로 변환
      *
@@ -4,9 +4,11 @@ import com.jhr.algoNote.domain.tag.ReviewTag;
 import com.jhr.algoNote.domain.tag.Tag;
 import com.jhr.algoNote.exception.RedundantTagNameException;
 import com.jhr.algoNote.repository.TagRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,11 +16,26 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class TagService {
 
     private final TagRepository tagRepository;
 
+    //getTagList 에서 새로 등록한 태그, 기존 태그를 사용한 횟수
+    private final Counter createdTags;
+    private final Counter reusedTags;
+
+    public TagService(TagRepository tagRepository, MeterRegistry meterRegistry) {
+        this.tagRepository = tagRepository;
+        this.createdTags = Counter.builder("algonote.tags.resolved")
+            .description("문제, 리뷰 등록시 태그 조회 결과")
+            .tag("result", "created")
+            .register(meterRegistry);
+        this.reusedTags = Counter.builder("algonote.tags.resolved")
+            .description("문제, 리뷰 등록시 태그 조회 결과")
+            .tag("result", "reused")
+            .register(meterRegistry);
+    }
+
     @Transactional
     public Long saveTag(Tag tag) {
         if (findByName(tag.getName()) != null) {
@@ -68,6 +85,7 @@ public class TagService {
     }
 
 
+    @Timed(value = "algonote.tag.resolve", description = "태그 이름으로 태그 조회, 없으면 등록")
     @Transactional
     public List<Tag> getTagList(String[] tagNames) {
         ArrayList<Tag> tagList = new ArrayList<>();
@@ -89,6 +107,9 @@ public class TagService {
         if (tag == null) {
             tag = Tag.builder().name(tagName).build();
             saveTag(tag);
+            createdTags.increment();
+        } else {
+            reusedTags.increment();
         }
         return tag;
     }
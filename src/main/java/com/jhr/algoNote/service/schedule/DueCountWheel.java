@@ -0,0 +1,184 @@
+package com.jhr.algoNote.service.schedule;
+
+import com.jhr.algoNote.repository.query.ProblemQueryRepository;
+import com.jhr.algoNote.repository.query.ScheduledProblemQueryDto;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원별 "지금 복습할 문제" 개수를 유지하는 timing wheel
+ * <p>
+ * 1분 단위 슬롯 하루치(1440개)에 앞으로 24시간 안에 복습 시각이 오는 문제를 넣어 두고, 매분 현재 슬롯의 문제를 복습 대상 개수에 더한다.
+ * 24시간 이후의 문제는 매분 지난 만큼만 next_review_at 인덱스 범위로 읽어 채우므로 전체 테이블을 다시 계산하지 않는다. 리뷰
+ * 작성 등으로 일정이 바뀌면 커밋 후 {@link ProblemScheduledEvent} 로 갱신한다.
+ * <p>
+ * 개수는 이 인스턴스 안에서만 유지된다. 준비되기 전(시작 직후)에는 null 을 반환하므로 DB 로 조회해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DueCountWheel {
+
+    static final int SLOTS = 24 * 60;
+
+    private final ProblemQueryRepository problemQueryRepository;
+
+    private final Map<Long, Long> dueCounts = new HashMap<>();
+    private final Map<Long, Entry> pending = new HashMap<>();
+    private final List<Set<Entry>> slots = new ArrayList<>(SLOTS);
+
+    // 마지막으로 처리한 분 (epoch minute)
+    private long currentMinute;
+    // 이 시각 이전의 일정은 모두 읽어 둠
+    private LocalDateTime horizon;
+    private boolean ready;
+
+    {
+        for (int i = 0; i < SLOTS; i++) {
+            slots.add(new HashSet<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void start() {
+        init(LocalDateTime.now());
+    }
+
+    @Scheduled(fixedRate = 60_000, initialDelay = 60_000)
+    @Transactional(readOnly = true)
+    public void tick() {
+        advance(LocalDateTime.now());
+    }
+
+    synchronized void init(LocalDateTime now) {
+        dueCounts.clear();
+        pending.clear();
+        slots.forEach(Set::clear);
+
+        currentMinute = minuteOf(now);
+        LocalDateTime boundary = startOfMinute(currentMinute + 1);
+        dueCounts.putAll(problemQueryRepository.countDueProblemsByMember(boundary));
+        horizon = boundary;
+        fill(now);
+        ready = true;
+        log.info("due count wheel started (members={}, pending={})", dueCounts.size(),
+            pending.size());
+    }
+
+    /**
+     * now 까지 지난 슬롯을 처리하고 24시간 앞까지 일정을 채운다
+     */
+    synchronized void advance(LocalDateTime now) {
+        if (!ready) {
+            return;
+        }
+        long nowMinute = minuteOf(now);
+        long steps = Math.min(nowMinute - currentMinute, SLOTS);
+        for (long i = 1; i <= steps; i++) {
+            Set<Entry> slot = slots.get(slotOf(currentMinute + i));
+            slot.removeIf(entry -> {
+                if (entry.minute > nowMinute) {
+                    return false;
+                }
+                pending.remove(entry.problemId);
+                dueCounts.merge(entry.memberId, 1L, Long::sum);
+                return true;
+            });
+        }
+        currentMinute = Math.max(currentMinute, nowMinute);
+        fill(now);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onScheduled(ProblemScheduledEvent event) {
+        if (!ready) {
+            return;
+        }
+        Entry old = pending.remove(event.getProblemId());
+        if (old != null) {
+            slots.get(slotOf(old.minute)).remove(old);
+        } else if (event.getOldDueAt() != null && isDue(event.getOldDueAt())) {
+            dueCounts.computeIfPresent(event.getMemberId(),
+                (id, count) -> count > 1 ? count - 1 : null);
+        }
+        if (event.getNewDueAt() != null) {
+            add(event.getProblemId(), event.getMemberId(), event.getNewDueAt());
+        }
+    }
+
+    /**
+     * @return 지금 복습할 문제 개수, 준비되지 않았으면 null
+     */
+    public synchronized Long getDueCount(Long memberId) {
+        return ready ? dueCounts.getOrDefault(memberId, 0L) : null;
+    }
+
+    private void fill(LocalDateTime now) {
+        LocalDateTime to = startOfMinute(minuteOf(now) + SLOTS);
+        if (!to.isAfter(horizon)) {
+            return;
+        }
+        LocalDateTime from = horizon;
+        horizon = to;
+        for (ScheduledProblemQueryDto dto : problemQueryRepository.findScheduledBetween(from, to)) {
+            if (!pending.containsKey(dto.getProblemId())) {
+                add(dto.getProblemId(), dto.getMemberId(), dto.getNextReviewAt());
+            }
+        }
+    }
+
+    private void add(Long problemId, Long memberId, LocalDateTime dueAt) {
+        if (isDue(dueAt)) {
+            dueCounts.merge(memberId, 1L, Long::sum);
+        } else if (dueAt.isBefore(horizon)) {
+            Entry entry = new Entry(problemId, memberId, minuteOf(dueAt));
+            pending.put(problemId, entry);
+            slots.get(slotOf(entry.minute)).add(entry);
+        }
+        // horizon 이후는 fill 에서 DB 로 읽는다
+    }
+
+    private boolean isDue(LocalDateTime dueAt) {
+        return minuteOf(dueAt) <= currentMinute;
+    }
+
+    private static long minuteOf(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static LocalDateTime startOfMinute(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+    private static int slotOf(long minute) {
+        return (int) (minute % SLOTS);
+    }
+
+    private static class Entry {
+
+        private final Long problemId;
+        private final Long memberId;
+        private final long minute;
+
+        private Entry(Long problemId, Long memberId, long minute) {
+            this.problemId = problemId;
+            this.memberId = memberId;
+            this.minute = minute;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.jhr.algoNote.service.schedule;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 문제의 복습 시각이 정해지거나 바뀌었을 때 발행 (등록, 리뷰 작성, 삭제)
+ */
+@Getter
+public class ProblemScheduledEvent {
+
+    private final Long problemId;
+    private final Long memberId;
+    // 이전 복습 시각, 신규 문제면 null
+    private final LocalDateTime oldDueAt;
+    // 새 복습 시각, 삭제된 문제면 null
+    private final LocalDateTime newDueAt;
+
+    public ProblemScheduledEvent(Long problemId, Long memberId, LocalDateTime oldDueAt,
+        LocalDateTime newDueAt) {
+        this.problemId = problemId;
+        this.memberId = memberId;
+        this.oldDueAt = oldDueAt;
+        this.newDueAt = newDueAt;
+    }
+}
@@ -0,0 +1,23 @@
+-- V1(Flyway 도입 전 스키마) 이후 엔티티에 추가된 컬럼, 인덱스
+-- 기존 DB 에는 ddl-auto: update 로 일부가 이미 있을 수 있으므로 if not exists 로 추가한다.
+
+-- 회원 생성, 수정 시각 (BaseTimeEntity)
+alter table member add column if not exists created_date timestamp;
+alter table member add column if not exists modified_date timestamp;
+
+-- 문제 버전 (ETag, 낙관적 락), 기존 행은 0
+alter table problem add column if not exists version bigint default 0 not null;
+
+-- 리뷰 개수, 마지막 리뷰 시각 (기존 행은 V5 에서 채운다)
+alter table problem add column if not exists review_count integer default 0;
+alter table problem add column if not exists last_reviewed_at timestamp;
+
+-- 복습 일정 (ReviewSchedule), 기존 행은 null
+alter table problem add column if not exists repetition integer;
+alter table problem add column if not exists interval_days integer;
+alter table problem add column if not exists ease_factor double;
+alter table problem add column if not exists next_review_at timestamp;
+
+create index if not exists idx_problem_member_next_review on problem (member_id, next_review_at);
+create index if not exists idx_problem_next_review on problem (next_review_at);
+create index if not exists idx_review_member_created on review (member_id, created_date);
@@ -0,0 +1,81 @@
+-- 초기 스키마 (Flyway 도입 전 ddl-auto: update 로 만들어진 스키마와 동일, 이후 변경은 V1_1 부터)
+-- 기존 DB 는 spring.flyway.baseline-on-migrate 로 V1 을 건너뛴다.
+
+create sequence hibernate_sequence start with 1 increment by 1;
+
+create table member (
+    member_id     bigint       not null,
+    email         varchar(255) not null,
+    name          varchar(255) not null,
+    picture       varchar(255),
+    role          varchar(255) not null,
+    primary key (member_id)
+);
+
+create table tag (
+    tag_id bigint not null,
+    name   varchar(255),
+    primary key (tag_id)
+);
+
+create table problem_content (
+    problem_content_id bigint not null,
+    text               clob   not null,
+    primary key (problem_content_id)
+);
+
+create table problem (
+    problem_id         bigint       not null,
+    created_date       timestamp,
+    modified_date      timestamp,
+    site               varchar(255),
+    title              varchar(255) not null,
+    url                varchar(255),
+    problem_content_id bigint,
+    member_id          bigint,
+    primary key (problem_id)
+);
+
+create table problem_tag (
+    problem_tag_id bigint not null,
+    problem_id     bigint,
+    tag_id         bigint,
+    primary key (problem_tag_id)
+);
+
+create table review_content (
+    review_content_id bigint not null,
+    text              clob   not null,
+    primary key (review_content_id)
+);
+
+create table review (
+    review_id         bigint not null,
+    created_date      timestamp,
+    modified_date     timestamp,
+    title             varchar(255),
+    review_content_id bigint,
+    member_id         bigint,
+    problem_id        bigint,
+    primary key (review_id)
+);
+
+create table review_tag (
+    review_tag_id bigint not null,
+    review_id     bigint,
+    tag_id        bigint,
+    primary key (review_tag_id)
+);
+
+alter table member add constraint uk_member_email unique (email);
+alter table tag add constraint uk_tag_name unique (name);
+
+alter table problem add constraint fk_problem_content foreign key (problem_content_id) references problem_content;
+alter table problem add constraint fk_problem_member foreign key (member_id) references member;
+alter table problem_tag add constraint fk_problem_tag_problem foreign key (problem_id) references problem;
+alter table problem_tag add constraint fk_problem_tag_tag foreign key (tag_id) references tag;
+alter table review add constraint fk_review_content foreign key (review_content_id) references review_content;
+alter table review add constraint fk_review_member foreign key (member_id) references member;
+alter table review add constraint fk_review_problem foreign key (problem_id) references problem;
+alter table review_tag add constraint fk_review_tag_review foreign key (review_id) references review;
+alter table review_tag add constraint fk_review_tag_tag foreign key (tag_id) references tag;
@@ -0,0 +1,14 @@
+-- 자주 쓰는 조건의 인덱스
+-- review(member_id) 는 idx_review_member_created (member_id, created_date) 로 처리한다.
+
+-- 회원의 문제 목록, 검색 (member_id 조건 + id 순 정렬)
+create index if not exists idx_problem_member on problem (member_id, problem_id);
+
+-- 문제의 태그 조회, 태그 검색 (exists 서브쿼리), 태그 삭제
+create index if not exists idx_problem_tag_problem_tag on problem_tag (problem_id, tag_id);
+
+-- 문제의 리뷰 조회, 리뷰 개수 집계, 문제 삭제
+create index if not exists idx_review_problem on review (problem_id, review_id);
+
+-- 리뷰의 태그 조회, 리뷰 삭제
+create index if not exists idx_review_tag_review on review_tag (review_id, tag_id);
@@ -0,0 +1,9 @@
+-- 복제 지연 측정 (ReplicaLagMonitor)
+-- 원본에 현재 시각(epoch ms)을 기록하고 복제 DB 에서 읽은 값과 비교한다.
+create table replica_heartbeat (
+    id      integer not null,
+    beat_at bigint  not null,
+    primary key (id)
+);
+
+insert into replica_heartbeat (id, beat_at) values (1, 0);
@@ -0,0 +1,6 @@
+-- 리뷰 개수, 마지막 리뷰 시각 채우기
+-- V1 로 기준을 잡은 기존 DB 는 V1_1 에서 컬럼이 추가되어 review_count = 0, last_reviewed_at = null 이다.
+-- 이후 리뷰 작성/삭제 시 ReviewService 가 갱신한다.
+update problem p
+set review_count     = (select count(*) from review r where r.problem_id = p.problem_id),
+    last_reviewed_at = (select max(r.created_date) from review r where r.problem_id = p.problem_id);
@@ -0,0 +1,118 @@
+package com.jhr.algoNote.api.assembler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.jhr.algoNote.api.dto.ProblemDto;
+import com.jhr.algoNote.domain.Member;
+import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.dto.ProblemCreateRequest;
+import com.jhr.algoNote.dto.ReviewCreateRequest;
+import com.jhr.algoNote.repository.query.ProblemField;
+import com.jhr.algoNote.service.MemberService;
+import com.jhr.algoNote.service.ProblemService;
+import com.jhr.algoNote.service.ReviewService;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ProblemDtoAssemblerTest {
+
+    @Autowired
+    ProblemDtoAssembler problemDtoAssembler;
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    ProblemService problemService;
+    @Autowired
+    ReviewService reviewService;
+    @Autowired
+    EntityManager em;
+    @Autowired
+    EntityManagerFactory emf;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * size 개의 문제를 등록하고, 문제마다 태그 2개와 리뷰 1개를 추가한다.
+     */
+    private void createProblems(int size) {
+        Member member = Member.builder()
+            .name("홍길동")
+            .email("assembler@gmail.com")
+            .role(Role.USER)
+            .build();
+        memberService.join(member);
+
+        for (int i = 0; i < size; i++) {
+            Long problemId = problemService.register(member.getId(), ProblemCreateRequest.builder()
+                .title("title" + i)
+                .contentText("content" + i)
+                .tagText("A B")
+                .build());
+
+            reviewService.createReview(member.getId(), ReviewCreateRequest.builder()
+                .problemId(problemId)
+                .title("review" + i)
+                .contentText("review content" + i)
+                .tagText("")
+                .build());
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("limit=100 조회 시 문제, 태그, 리뷰 쿼리 3번만 실행되어야 한다.")
+    void findProblems_query_count() {
+        //given
+        createProblems(100);
+        statistics.clear();
+
+        //when
+        List<ProblemDto> result = problemDtoAssembler.findProblems(0, 100);
+
+        //than
+        assertEquals(100, result.size());
+        assertEquals(2, result.get(0).getProblemTags().size());
+        assertEquals(1, result.get(0).getReviews().size());
+        assertEquals("홍길동", result.get(99).getName());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("summary 조회 시 내용과 리뷰는 조회하지 않는다.")
+    void findProblems_summary() {
+        //given
+        createProblems(10);
+        statistics.clear();
+
+        //when
+        List<ProblemDto> result = problemDtoAssembler.findProblems(0, 100,
+            ProblemField.parse(ProblemField.SUMMARY));
+
+        //than
+        assertEquals(10, result.size());
+        assertNull(result.get(0).getProblemContent());
+        assertNull(result.get(0).getName());
+        assertNull(result.get(0).getReviews());
+        assertEquals(2, result.get(0).getProblemTags().size());
+        assertEquals(2, statistics.getPrepareStatementCount()); //문제, 태그
+    }
+}
@@ -0,0 +1,68 @@
+package com.jhr.algoNote.api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+@Transactional
+class LoadTestLoginApiControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Test
+    void 로그인_회원가입() throws Exception {
+        //given
+        String email = "user0.seed1@algonote.dev";
+        MockHttpSession session = new MockHttpSession();
+
+        //when
+        mockMvc.perform(post("/api/loadtest/login").param("email", email).session(session))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.memberId").isNumber())
+            .andExpect(jsonPath("$.problemIds").isEmpty());
+
+        //than
+        assertEquals(1, memberRepository.findByEmail(email).size());
+        SessionUser user = (SessionUser) session.getAttribute("user");
+        assertEquals(email, user.getEmail());
+        assertNotNull(session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY));
+        //같은 세션으로 로그인이 필요한 페이지 요청
+        mockMvc.perform(get("/problems").session(session))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void 기존_회원_로그인() throws Exception {
+        //given
+        String email = "user1.seed1@algonote.dev";
+        mockMvc.perform(post("/api/loadtest/login").param("email", email));
+
+        //when
+        mockMvc.perform(post("/api/loadtest/login").param("email", email))
+            .andExpect(status().isOk());
+
+        //than
+        assertEquals(1, memberRepository.findByEmail(email).size());
+    }
+}
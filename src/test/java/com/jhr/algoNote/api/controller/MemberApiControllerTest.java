@@ -3,10 +3,12 @@ package com.jhr.algoNote.api.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jhr.algoNote.api.controller.MemberApiController.UpdateMemberRequest;
 import com.jhr.algoNote.api.dto.CreateMemberRequest;
+import com.jhr.algoNote.api.exception.ExControllerAdvice;
 import com.jhr.algoNote.config.auth.SecurityConfig;
 import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.domain.Role;
 import com.jhr.algoNote.repository.MemberRepository;
+import com.jhr.algoNote.repository.query.MemberQueryDto;
 import com.jhr.algoNote.service.MemberService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,23 +56,18 @@ class MemberApiControllerTest {
     @BeforeEach
     void initEach() {
         this.mockMvc = MockMvcBuilders.standaloneSetup(new MemberApiController(memberService))
+                .setControllerAdvice(new ExControllerAdvice())
                 .addFilter(new CharacterEncodingFilter("UTF-8", true))
                 .alwaysDo(print())
                 .build();
 
-        List<Member> memberList = new ArrayList<>();
-        Member member1 = Member.builder().name("Hyeri Jang").email("hyeri@naver.com").role(Role.ADMIN).picture("hrj.jpg").build();
-        ReflectionTestUtils.setField(member1, "id", 1L);
-        Member member2 = Member.builder().name("Kim Minho").email("minho@naver.com").role(Role.USER).picture("minho.jpg").build();
-        ReflectionTestUtils.setField(member2, "id", 2L);
-        Member member3 = Member.builder().name("Yoo Jaehee").email("yjh123@naver.com").role(Role.USER).picture("yjh.jpg").build();
-        ReflectionTestUtils.setField(member3, "id", 3L);
+        List<MemberQueryDto> memberList = new ArrayList<>();
+        memberList.add(new MemberQueryDto(1L, "Hyeri Jang", "hyeri@naver.com", "hrj.jpg", Role.ADMIN));
+        memberList.add(new MemberQueryDto(2L, "Kim Minho", "minho@naver.com", "minho.jpg", Role.USER));
+        memberList.add(new MemberQueryDto(3L, "Yoo Jaehee", "yjh123@naver.com", "yjh.jpg", Role.USER));
 
-        memberList.add(member1);
-        memberList.add(member2);
-        memberList.add(member3);
-
-        Mockito.when(memberService.findMembers()).thenReturn(memberList);
+        Mockito.when(memberService.findMembers(ArgumentMatchers.any(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyBoolean()))
+                .thenReturn(memberList);
     }
 
     @Test
@@ -108,10 +105,41 @@ class MemberApiControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data[0].name").value("Hyeri Jang"))
                 .andExpect(jsonPath("$.data[0].id").value(1L))
-                .andExpect(jsonPath("$.data[1].name").value("Kim Minho"));
+                .andExpect(jsonPath("$.data[1].name").value("Kim Minho"))
+                .andExpect(jsonPath("$.data[0].problemCount").doesNotExist())
+                .andExpect(jsonPath("$.nextId").doesNotExist()); //마지막 페이지
+    }
+
+    @Test
+    void 유저조회_다음페이지() throws Exception {
+        //given
+
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/members").param("size", "3"));
+
+        //than
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextId").value(3L));
     }
 
 
+    @Test
+    void 유저조회_페이지크기_범위밖이면_400() throws Exception {
+        //given
+        Mockito.when(memberService.findMembers(ArgumentMatchers.any(), ArgumentMatchers.eq(101), ArgumentMatchers.anyBoolean()))
+                .thenThrow(new IllegalArgumentException("페이지 크기는 1 ~ 100 이어야 합니다."));
+
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/members").param("size", "101"));
+
+        //than
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD"))
+                .andExpect(jsonPath("$.message").value("페이지 크기는 1 ~ 100 이어야 합니다."));
+    }
+
     @Test
     void 유저정보수정() throws Exception {
         //given
@@ -1,18 +1,23 @@
 package com.jhr.algoNote.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jhr.algoNote.api.controller.MemberApiController.UpdateMemberRequest;
-import com.jhr.algoNote.api.dto.CreateMemberRequest;
+import com.jhr.algoNote.api.assembler.ProblemDtoAssembler;
+import com.jhr.algoNote.api.exception.ExControllerAdvice;
 import com.jhr.algoNote.config.auth.SecurityConfig;
 import com.jhr.algoNote.domain.Member;
-import com.jhr.algoNote.domain.Problem;
-import com.jhr.algoNote.domain.Role;
-import com.jhr.algoNote.domain.content.ProblemContent;
-import com.jhr.algoNote.repository.MemberRepository;
+import com.jhr.algoNote.dto.ResourceVersion;
+import com.jhr.algoNote.repository.query.ProblemQueryDto;
 import com.jhr.algoNote.repository.query.ProblemQueryRepository;
-import com.jhr.algoNote.service.MemberService;
+import com.jhr.algoNote.repository.query.ProblemSort;
+import com.jhr.algoNote.repository.query.ProblemTagQueryDto;
+import com.jhr.algoNote.support.ExpectedQueries;
+import com.jhr.algoNote.support.ProblemFixture;
+import com.jhr.algoNote.support.QueryCountTest;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,17 +27,23 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.context.NestedTestConfiguration;
+import org.springframework.test.context.NestedTestConfiguration.EnclosingConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -55,26 +66,21 @@ class ProblemApiControllerTest {
 
     @BeforeEach
     void initEach() {
-        this.mockMvc = MockMvcBuilders.standaloneSetup(new ProblemApiController(problemQueryRepository))
+        this.mockMvc = MockMvcBuilders.standaloneSetup(new ProblemApiController(new ProblemDtoAssembler(problemQueryRepository)))
+                .setControllerAdvice(new ExControllerAdvice())
                 .addFilter(new CharacterEncodingFilter("UTF-8", true))
                 .alwaysDo(print())
                 .build();
 
-        Member writer = Member.builder().name("Hyeri Jang").email("hyeri@naver.com").role(Role.ADMIN).picture("hrj.jpg").build();
+        List<ProblemQueryDto> problems = new ArrayList<>();
+        problems.add(new ProblemQueryDto(1L, "에스컬레이터", null, null, "Hyeri Jang", "123"));
+        problems.add(new ProblemQueryDto(2L, "아기 상어", null, null, "Hyeri Jang", "뚜루루뚜루"));
+        problems.add(new ProblemQueryDto(3L, "피보나치 수열", null, null, "Hyeri Jang", "피보나치 수열을 구현하세요"));
 
-        List<Problem> problems = new ArrayList<>();
-        Problem problem1 = Problem.builder().title("에스컬레이터").member(writer).content(ProblemContent.createProblemContent("123")).problemTagList(new ArrayList<>()).build();
-        ReflectionTestUtils.setField(problem1, "id", 1L);
-        Problem problem2 = Problem.builder().title("아기 상어").member(writer).content(ProblemContent.createProblemContent("뚜루루뚜루")).problemTagList(new ArrayList<>()).build();
-        ReflectionTestUtils.setField(problem2, "id", 2L);
-        Problem problem3 = Problem.builder().title("피보나치 수열").member(writer).content(ProblemContent.createProblemContent("피보나치 수열을 구현하세요")).problemTagList(new ArrayList<>()).build();
-        ReflectionTestUtils.setField(problem3, "id", 3L);
-
-        problems.add(problem1);
-        problems.add(problem2);
-        problems.add(problem3);
-
-        Mockito.when(problemQueryRepository.findAll(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt())).thenReturn(problems);
+        Mockito.when(problemQueryRepository.findProblemPage(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(), ArgumentMatchers.anySet(),
+                        ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(problems);
+        Mockito.when(problemQueryRepository.findTagNames(ArgumentMatchers.anyList()))
+                .thenReturn(List.of(new ProblemTagQueryDto(1L, "구현")));
 
     }
 
@@ -92,8 +98,219 @@ class ProblemApiControllerTest {
                 .andExpect(jsonPath("$.data[0].problemId").value(1L))
                 .andExpect(jsonPath("$.data[0].problemTitle").value("에스컬레이터"))
                 .andExpect(jsonPath("$.data[1].problemId").value(2L))
-                .andExpect(jsonPath("$.data[1].problemTitle").value("아기 상어"));
+                .andExpect(jsonPath("$.data[1].problemTitle").value("아기 상어"))
+                .andExpect(jsonPath("$.data[0].name").value("Hyeri Jang"))
+                .andExpect(jsonPath("$.data[0].problemTags[0].tagName").value("구현"))
+                .andExpect(jsonPath("$.data[1].problemTags").isEmpty());
     }
 
+    @Test
+    void 문제조회_필드선택() throws Exception {
+        //given
+
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/problems").param("fields", "id,title"));
+
+        //than
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].problemId").value(1L))
+                .andExpect(jsonPath("$.data[0].problemTitle").value("에스컬레이터"))
+                .andExpect(jsonPath("$.data[0].problemContent").doesNotExist())
+                .andExpect(jsonPath("$.data[0].problemTags").doesNotExist())
+                .andExpect(jsonPath("$.data[0].reviews").doesNotExist());
 
-}
\ No newline at end of file
+        //태그, 리뷰를 요청하지 않으면 조회하지 않는다.
+        Mockito.verify(problemQueryRepository, Mockito.never()).findTagNames(ArgumentMatchers.anyList());
+        Mockito.verify(problemQueryRepository, Mockito.never()).findReviewTitles(ArgumentMatchers.anyList());
+    }
+
+    @Test
+    void 문제조회_지원하지_않는_필드는_400() throws Exception {
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/problems").param("fields", "id,password"));
+
+        //than
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD"));
+        Mockito.verify(problemQueryRepository, Mockito.never()).findProblemPage(ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyInt(), ArgumentMatchers.anySet(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void 문제조회_변경없으면_304() throws Exception {
+        //given
+        ResourceVersion version = new ResourceVersion(LocalDateTime.of(2022, 1, 1, 0, 0), 3L, 3L, 0L);
+        Mockito.when(problemQueryRepository.findPageVersion(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(version);
+        String eTag = mockMvc.perform(get("/api/problems"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/problems")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        //than
+        resultActions.andExpect(status().isNotModified());
+        //문제 목록은 처음 1번만 조회
+        Mockito.verify(problemQueryRepository, Mockito.times(1))
+                .findProblemPage(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(), ArgumentMatchers.anySet(),
+                        ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void 문제조회_리뷰많은순() throws Exception {
+        //given
+
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/problems")
+                .param("sort", "REVIEW_COUNT")
+                .param("minReviews", "2"));
+
+        //than
+        resultActions.andExpect(status().isOk());
+        Mockito.verify(problemQueryRepository).findProblemPage(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anySet(), ArgumentMatchers.eq(ProblemSort.REVIEW_COUNT), ArgumentMatchers.eq(2));
+    }
+
+    @Test
+    void id목록으로_문제조회() throws Exception {
+        //given
+        List<ProblemQueryDto> problems = new ArrayList<>();
+        problems.add(new ProblemQueryDto(1L, "에스컬레이터", null, null, "Hyeri Jang", "123"));
+        problems.add(new ProblemQueryDto(3L, "피보나치 수열", null, null, "Hyeri Jang", "피보나치 수열을 구현하세요"));
+        Mockito.when(problemQueryRepository.findProblemsByIds(ArgumentMatchers.anyList(), ArgumentMatchers.anySet()))
+                .thenReturn(problems);
+
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/problems").param("ids", "3,2,1"));
+
+        //than 요청한 순서 유지, 없는 id 반환
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].problemId").value(3L))
+                .andExpect(jsonPath("$.data[1].problemId").value(1L))
+                .andExpect(jsonPath("$.data[1].problemTags[0].tagName").value("구현"))
+                .andExpect(jsonPath("$.missingIds[0]").value(2L));
+    }
+
+    @Test
+    void id목록으로_문제조회_빈값은_400() throws Exception {
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/problems").param("ids", "1,,2"));
+
+        //than
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD"));
+        Mockito.verify(problemQueryRepository, Mockito.never())
+                .findProblemsByIds(ArgumentMatchers.anyList(), ArgumentMatchers.anySet());
+    }
+
+    @Test
+    void id목록으로_문제조회_숫자가_아니면_400() throws Exception {
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/problems").param("ids", "1,a"));
+
+        //than
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void id목록으로_문제조회_최대개수_초과는_400() throws Exception {
+        //given
+        String ids = LongStream.rangeClosed(1, 1001)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        //when
+        final ResultActions resultActions = mockMvc.perform(post("/api/problems/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[" + ids + "]}"));
+
+        //than
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD"));
+        Mockito.verify(problemQueryRepository, Mockito.never())
+                .findProblemsByIds(ArgumentMatchers.anyList(), ArgumentMatchers.anySet());
+    }
+
+    @Test
+    void id목록으로_문제조회_POST() throws Exception {
+        //given
+        Mockito.when(problemQueryRepository.findProblemsByIds(ArgumentMatchers.anyList(), ArgumentMatchers.anySet()))
+                .thenReturn(List.of(new ProblemQueryDto(2L, "아기 상어", null, null, "Hyeri Jang", "뚜루루뚜루")));
+
+        //when
+        final ResultActions resultActions = mockMvc.perform(post("/api/problems/batch")
+                .param("fields", "summary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[2,4]}"));
+
+        //than
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].problemTitle").value("아기 상어"))
+                .andExpect(jsonPath("$.data[0].problemContent").doesNotExist())
+                .andExpect(jsonPath("$.missingIds[0]").value(4L));
+    }
+
+
+    /**
+     * 실제 DB 로 요청, 문제 수와 상관없이 쿼리 수가 같아야 한다. (태그, 리뷰는 IN 조회 1번씩)
+     */
+    @Nested
+    @NestedTestConfiguration(EnclosingConfiguration.OVERRIDE)
+    @QueryCountTest
+    class QueryBudget {
+
+        @Autowired
+        MockMvc mockMvc;
+
+        @Autowired
+        ProblemFixture fixture;
+
+        @ParameterizedTest(name = "문제 {0}개")
+        @ValueSource(ints = {1, 50})
+        @ExpectedQueries(max = 5) // 페이지 버전(문제, 리뷰), 문제 페이지, 태그, 리뷰
+        void problems(int problems) throws Exception {
+            //given
+            Member member = fixture.createMember();
+            fixture.createProblems(member, problems, 2);
+
+            //when
+            final ResultActions resultActions = mockMvc.perform(get("/api/problems"));
+
+            //than
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(problems)))
+                    .andExpect(jsonPath("$.data[0].problemTags", hasSize(3)))
+                    .andExpect(jsonPath("$.data[0].reviews", hasSize(2)));
+        }
+
+        @ParameterizedTest(name = "문제 {0}개")
+        @ValueSource(ints = {1, 50})
+        @ExpectedQueries(max = 3) // 문제, 태그, 리뷰
+        void problemsByIds(int problems) throws Exception {
+            //given
+            Member member = fixture.createMember();
+            String ids = fixture.createProblems(member, problems, 2).stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+
+            //when
+            final ResultActions resultActions = mockMvc.perform(get("/api/problems").param("ids", ids));
+
+            //than
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(problems)))
+                    .andExpect(jsonPath("$.missingIds", hasSize(0)));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.jhr.algoNote.api.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jhr.algoNote.api.exception.ExControllerAdvice;
+import com.jhr.algoNote.config.auth.LoginUserArgumentResolver;
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.domain.Member;
+import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.repository.query.ReviewQueryDto;
+import com.jhr.algoNote.service.ReviewService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import com.jhr.algoNote.support.ProblemFixture;
+import com.jhr.algoNote.support.QueryCountTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.filter.CharacterEncodingFilter;
+
+class ReviewApiControllerTest {
+
+    MockMvc mockMvc;
+    ReviewService reviewService = Mockito.mock(ReviewService.class);
+    MockHttpSession httpSession = new MockHttpSession();
+
+    @BeforeEach
+    void initEach() {
+        httpSession.setAttribute("user", new SessionUser(1L, "홍길동", "abc@gmail.com", null, Role.USER));
+        this.mockMvc = MockMvcBuilders.standaloneSetup(new ReviewApiController(reviewService))
+            .setCustomArgumentResolvers(new LoginUserArgumentResolver(httpSession))
+            .setControllerAdvice(new ExControllerAdvice())
+            .addFilter(new CharacterEncodingFilter("UTF-8", true))
+            .alwaysDo(print())
+            .build();
+
+        List<ReviewQueryDto> reviewList = new ArrayList<>();
+        for (long i = 3; i >= 1; i--) {
+            ReviewQueryDto dto = new ReviewQueryDto(i, "리뷰" + i, 10L + i, "문제" + i,
+                LocalDateTime.now(), LocalDateTime.now());
+            dto.getTagNames().add("dfs");
+            reviewList.add(dto);
+        }
+        Mockito.when(reviewService.findReviews(ArgumentMatchers.eq(1L), ArgumentMatchers.any(),
+                ArgumentMatchers.anyInt()))
+            .thenReturn(reviewList);
+    }
+
+    @Test
+    void 리뷰목록조회() throws Exception {
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/reviews"));
+
+        //than
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].id").value(3L))
+            .andExpect(jsonPath("$.data[0].problemTitle").value("문제3"))
+            .andExpect(jsonPath("$.data[0].tags[0]").value("dfs"))
+            .andExpect(jsonPath("$.nextId").doesNotExist()); //마지막 페이지
+    }
+
+    @Test
+    void 리뷰목록조회_다음페이지() throws Exception {
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/reviews")
+            .param("size", "3"));
+
+        //than
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.nextId").value(1L));
+    }
+
+    @Test
+    void 리뷰목록조회_페이지크기_범위밖이면_400() throws Exception {
+        //given
+        Mockito.when(reviewService.findReviews(ArgumentMatchers.eq(1L), ArgumentMatchers.any(),
+                ArgumentMatchers.eq(101)))
+            .thenThrow(new IllegalArgumentException("페이지 크기는 1 ~ 100 이어야 합니다."));
+
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/reviews")
+            .param("size", "101"));
+
+        //than
+        resultActions
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("BAD"));
+    }
+
+    /**
+     * 실제 보안 설정으로 요청, 회원은 세션의 회원으로만 정해진다.
+     */
+    @Nested
+    @QueryCountTest
+    class Authentication {
+
+        @Autowired
+        MockMvc mvc;
+
+        @Autowired
+        ProblemFixture fixture;
+
+        @Test
+        void 로그인하지_않으면_401() throws Exception {
+            //when
+            //than
+            mvc.perform(get("/api/reviews"))
+                .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @WithMockUser
+        void 다른_회원의_리뷰는_조회할_수_없다() throws Exception {
+            //given
+            Member owner = fixture.createMember("owner@gmail.com");
+            fixture.createProblems(owner, 1, 2);
+            Member other = fixture.createMember("other@gmail.com");
+            MockHttpSession session = new MockHttpSession();
+            session.setAttribute("user", new SessionUser(other));
+
+            //when
+            //than
+            mvc.perform(get("/api/reviews").session(session)
+                    .param("memberId", String.valueOf(owner.getId()))) //무시된다
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty());
+
+            MockHttpSession ownerSession = new MockHttpSession();
+            ownerSession.setAttribute("user", new SessionUser(owner));
+            mvc.perform(get("/api/reviews").session(ownerSession))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2));
+        }
+    }
+}
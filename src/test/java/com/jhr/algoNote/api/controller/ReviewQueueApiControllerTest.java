@@ -0,0 +1,81 @@
+package com.jhr.algoNote.api.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jhr.algoNote.api.exception.ExControllerAdvice;
+import com.jhr.algoNote.config.auth.LoginUserArgumentResolver;
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.repository.query.ScheduledProblemQueryDto;
+import com.jhr.algoNote.service.ProblemService;
+import com.jhr.algoNote.support.QueryCountTest;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.filter.CharacterEncodingFilter;
+
+class ReviewQueueApiControllerTest {
+
+    MockMvc mockMvc;
+    ProblemService problemService = Mockito.mock(ProblemService.class);
+    MockHttpSession httpSession = new MockHttpSession();
+
+    @BeforeEach
+    void initEach() {
+        httpSession.setAttribute("user", new SessionUser(1L, "홍길동", "abc@gmail.com", null, Role.USER));
+        this.mockMvc = MockMvcBuilders.standaloneSetup(new ReviewQueueApiController(problemService))
+            .setCustomArgumentResolvers(new LoginUserArgumentResolver(httpSession))
+            .setControllerAdvice(new ExControllerAdvice())
+            .addFilter(new CharacterEncodingFilter("UTF-8", true))
+            .alwaysDo(print())
+            .build();
+
+        Mockito.when(problemService.findDueProblems(1L))
+            .thenReturn(List.of(new ScheduledProblemQueryDto(10L, 1L, "문제10", "백준", LocalDateTime.now())));
+        Mockito.when(problemService.countDueProblems(1L)).thenReturn(1L);
+    }
+
+    @Test
+    void 복습목록조회_세션의_회원() throws Exception {
+        //when
+        final ResultActions resultActions = mockMvc.perform(get("/api/review-queue")
+            .param("memberId", "2")); //무시된다
+
+        //than
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].problemId").value(10L))
+            .andExpect(jsonPath("$.dueCount").value(1L));
+        Mockito.verify(problemService, Mockito.never()).findDueProblems(2L);
+    }
+
+    /**
+     * 실제 보안 설정으로 요청
+     */
+    @Nested
+    @QueryCountTest
+    class Authentication {
+
+        @Autowired
+        MockMvc mvc;
+
+        @Test
+        void 로그인하지_않으면_401() throws Exception {
+            //when
+            //than
+            mvc.perform(get("/api/review-queue"))
+                .andExpect(status().isUnauthorized());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.jhr.algoNote.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 있다고 응답한다")
+    void noFalseNegative() {
+        //given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        //when
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@gmail.com");
+        }
+
+        //than
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@gmail.com"));
+        }
+        assertFalse(filter.isSaturated());
+    }
+
+    @Test
+    @DisplayName("오탐 확률은 목표 근처여야 한다")
+    void falsePositiveRate() {
+        //given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@gmail.com");
+        }
+
+        //when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i + "@naver.com")) {
+                falsePositives++;
+            }
+        }
+
+        //than
+        assertTrue(falsePositives / 100_000.0 < 0.02, "오탐 " + falsePositives + "건");
+        assertTrue(filter.expectedFpp() < 0.02);
+        assertTrue(filter.memoryBytes() < 16 * 1024); // 약 12KB
+    }
+
+    @Test
+    void 잘못된_파라미터() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1.0));
+    }
+}
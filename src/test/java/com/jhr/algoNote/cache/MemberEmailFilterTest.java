@@ -0,0 +1,72 @@
+package com.jhr.algoNote.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jhr.algoNote.repository.MemberRepository;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class MemberEmailFilterTest {
+
+    MemberRepository memberRepository = Mockito.mock(MemberRepository.class);
+    MemberEmailFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new MemberEmailFilter(memberRepository, Mockito.mock(PlatformTransactionManager.class));
+        Mockito.when(memberRepository.count()).thenReturn(1L);
+        Mockito.when(memberRepository.streamEmails()).thenAnswer(invocation -> Stream.of("a@gmail.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        filter.shutdown();
+    }
+
+    @Test
+    @DisplayName("다시 만들 때 커밋되지 않은 가입 이메일도 포함한다")
+    void rebuildKeepsInFlightEmails() {
+        //given 가입 트랜잭션 진행 중 (DB 에서는 아직 읽히지 않음)
+        filter.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+        filter.put("b@gmail.com");
+
+        //when
+        filter.rebuild();
+
+        //than
+        assertTrue(filter.mightContain("a@gmail.com"));
+        assertTrue(filter.mightContain("b@gmail.com"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 끝난 가입 이메일은 DB 에서 읽는다")
+    void inFlightClearedAfterCompletion() {
+        //given 롤백된 가입
+        filter.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+        filter.put("b@gmail.com");
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+
+        //when
+        filter.rebuild();
+
+        //than
+        assertTrue(filter.mightContain("a@gmail.com"));
+        assertFalse(filter.mightContain("b@gmail.com"));
+    }
+}
@@ -0,0 +1,145 @@
+package com.jhr.algoNote.cache;
+
+import static com.jhr.algoNote.config.cache.SecondLevelCacheConfig.MEMBER_REGION;
+import static com.jhr.algoNote.config.cache.SecondLevelCacheConfig.TAG_REGION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jhr.algoNote.domain.Member;
+import com.jhr.algoNote.domain.Problem;
+import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.domain.tag.Tag;
+import com.jhr.algoNote.dto.ProblemCreateRequest;
+import com.jhr.algoNote.repository.MemberRepository;
+import com.jhr.algoNote.service.MemberService;
+import com.jhr.algoNote.service.ProblemService;
+import com.jhr.algoNote.service.TagService;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class SecondLevelCacheTest {
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    TagService tagService;
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    ProblemService problemService;
+
+    @Test
+    @DisplayName("한번 조회한 태그는 다른 세션에서 DB 없이 조회된다")
+    void tagFromCache() {
+        //given
+        Long tagId = tagService.saveTag(Tag.builder().name("캐시태그").build());
+        em.flush();
+        em.clear();
+        em.find(Tag.class, tagId); //DB 조회 후 캐시에 저장
+        long hits = regionStats(TAG_REGION).getHitCount();
+
+        //when (다른 세션은 커밋되지 않은 태그를 DB 에서 볼 수 없다)
+        Tag tag = findInNewSession(Tag.class, tagId);
+
+        //than
+        assertEquals("캐시태그", tag.getName());
+        assertEquals(hits + 1, regionStats(TAG_REGION).getHitCount());
+    }
+
+    @Test
+    @DisplayName("문제 태그의 태그는 캐시에서 조회된다")
+    void problemTagsResolveFromCache() {
+        //given
+        Long memberId = memberService.join(createMember("tags@algonote.dev"));
+        Long problemId = problemService.register(memberId, ProblemCreateRequest.builder()
+            .title("문제")
+            .contentText("내용")
+            .tagText("캐시1 캐시2 캐시3")
+            .site("BAEKJOON")
+            .build());
+        em.flush();
+        em.clear();
+        problemService.getTagText(em.find(Problem.class, problemId).getProblemTags()); //태그 캐시에 저장
+        em.clear();
+        long hits = regionStats(TAG_REGION).getHitCount();
+
+        //when
+        String tagText = problemService.getTagText(em.find(Problem.class, problemId).getProblemTags());
+
+        //than
+        assertEquals(3, tagText.split(",").length);
+        assertEquals(hits + 3, regionStats(TAG_REGION).getHitCount());
+    }
+
+    @Test
+    @DisplayName("한번 조회한 회원은 다른 세션에서 DB 없이 조회된다")
+    void memberFromCache() {
+        //given
+        Long memberId = memberService.join(createMember("member@algonote.dev"));
+        em.flush();
+        em.clear();
+        em.find(Member.class, memberId);
+        long hits = regionStats(MEMBER_REGION).getHitCount();
+
+        //when
+        Member member = findInNewSession(Member.class, memberId);
+
+        //than
+        assertEquals("member@algonote.dev", member.getEmail());
+        assertEquals(hits + 1, regionStats(MEMBER_REGION).getHitCount());
+    }
+
+    @Test
+    @DisplayName("회원 native upsert 는 member region 만 비운다")
+    void upsertEvictsMemberRegionOnly() {
+        //given
+        Long tagId = tagService.saveTag(Tag.builder().name("유지태그").build());
+        Long memberId = memberService.join(createMember("upsert@algonote.dev"));
+        em.flush();
+        em.clear();
+        em.find(Tag.class, tagId);
+        em.find(Member.class, memberId);
+
+        //when
+        memberRepository.upsertByEmail("upsert@algonote.dev", "새이름", null);
+
+        //than
+        assertTrue(entityManagerFactory.getCache().contains(Tag.class, tagId));
+        assertFalse(entityManagerFactory.getCache().contains(Member.class, memberId));
+    }
+
+    private Member createMember(String email) {
+        return Member.builder().name("회원").email(email).role(Role.USER).build();
+    }
+
+    /**
+     * 새 세션으로 조회 (READ_WRITE region 은 캐시에 저장한 세션보다 나중에 시작한 세션에만 보인다)
+     */
+    private <T> T findInNewSession(Class<T> type, Long id) {
+        EntityManager other = entityManagerFactory.createEntityManager();
+        try {
+            return other.find(type, id);
+        } finally {
+            other.close();
+        }
+    }
+
+    private CacheRegionStatistics regionStats(String region) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+            .getDomainDataRegionStatistics(region);
+    }
+}
@@ -1,44 +1,65 @@
 package com.jhr.algoNote.config.auth;
 
+import com.jhr.algoNote.cache.MemberEmailFilter;
+import com.jhr.algoNote.cache.MemberSnapshot;
 import com.jhr.algoNote.config.auth.dto.OAuthAttributes;
 import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.repository.MemberRepository;
 import java.lang.reflect.Method;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockHttpSession;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Transactional
 class CustomOAuth2UserServiceTest {
 
     @Autowired
     MemberRepository memberRepository;
 
+    @Autowired
+    EntityManager em;
 
-    @Test
-    @DisplayName("신규 유저 생성")
-    void saveWithAttributes() throws Exception {
-        //given
-        CustomOAuth2UserService customOAuth2UserService = new CustomOAuth2UserService(
-            memberRepository, new MockHttpSession());
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    CustomOAuth2UserService customOAuth2UserService;
+    Method method;
 
-        Method method = customOAuth2UserService.getClass().getDeclaredMethod("saveOrUpdate",
+    @BeforeEach
+    void setUp() throws Exception {
+        customOAuth2UserService = new CustomOAuth2UserService(
+            memberRepository, new MemberEmailFilter(memberRepository, transactionManager),
+            new MockHttpSession());
+
+        method = customOAuth2UserService.getClass().getDeclaredMethod("saveOrUpdate",
             OAuthAttributes.class);
         method.setAccessible(true);
+    }
 
+    @Test
+    @DisplayName("신규 유저 생성")
+    void saveWithAttributes() throws Exception {
+        //given
         OAuthAttributes attributes = new OAuthAttributes(null, null, "수정된이름", "이메일", "수정된사진");
 
         //when
-        Member member = (Member) method.invoke(customOAuth2UserService, attributes);
+        MemberSnapshot member = (MemberSnapshot) method.invoke(customOAuth2UserService, attributes);
 
         //than
         Assertions.assertEquals("수정된이름", member.getName());
+        Member saved = memberRepository.findById(member.getId());
+        Assertions.assertEquals("이메일", saved.getEmail());
     }
 
     @Test
@@ -46,25 +67,60 @@ class CustomOAuth2UserServiceTest {
     void UpdateWithAttributes() throws Exception {
 
         //given
-        CustomOAuth2UserService customOAuth2UserService = new CustomOAuth2UserService(
-            memberRepository, new MockHttpSession());
-
-        Method method = customOAuth2UserService.getClass().getDeclaredMethod("saveOrUpdate",
-            OAuthAttributes.class);
-        method.setAccessible(true);
-
         OAuthAttributes attributes = new OAuthAttributes(null, null, "이름", "이메일", "사진");
-        Member member = (Member) method.invoke(customOAuth2UserService, attributes);
+        MemberSnapshot member = (MemberSnapshot) method.invoke(customOAuth2UserService, attributes);
         Long savedId = member.getId();
 
         //when
         OAuthAttributes attributes2 = new OAuthAttributes(null, null, "수정된이름", "이메일", "사진");
-        Member result = (Member) method.invoke(customOAuth2UserService, attributes2);
+        MemberSnapshot result = (MemberSnapshot) method.invoke(customOAuth2UserService,
+            attributes2);
 
         //than
         Assertions.assertEquals(savedId, result.getId());
         Assertions.assertEquals("수정된이름", result.getName()); //수정된 정보
         Assertions.assertEquals("사진", result.getPicture()); //기존 정보 유지
+        em.clear();
+        Assertions.assertEquals("수정된이름", memberRepository.findById(savedId).getName());
+    }
+
+    @Test
+    @DisplayName("정보가 같으면 재로그인 시 쓰기를 하지 않는다")
+    void skipWriteWhenUnchanged() throws Exception {
+        //given
+        OAuthAttributes attributes = new OAuthAttributes(null, null, "이름", "이메일", "사진");
+        MemberSnapshot member = (MemberSnapshot) method.invoke(customOAuth2UserService, attributes);
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        //when
+        MemberSnapshot result = (MemberSnapshot) method.invoke(customOAuth2UserService,
+            new OAuthAttributes(null, null, "이름", "이메일", "사진"));
+
+        //than DB 의 회원 조회 1건만 실행된다
+        Assertions.assertEquals(member.getId(), result.getId());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 수정된 회원 정보는 로그인 정보로 다시 쓴다")
+    void writeWhenChangedElsewhere() throws Exception {
+        //given
+        MemberSnapshot member = (MemberSnapshot) method.invoke(customOAuth2UserService,
+            new OAuthAttributes(null, null, "이름", "이메일", "사진"));
+        // 다른 인스턴스에서 이름 수정
+        memberRepository.upsertByEmail("이메일", "다른이름", "사진");
+        em.clear();
+
+        //when
+        MemberSnapshot result = (MemberSnapshot) method.invoke(customOAuth2UserService,
+            new OAuthAttributes(null, null, "이름", "이메일", "사진"));
+
+        //than
+        Assertions.assertEquals("이름", result.getName());
+        em.clear();
+        Assertions.assertEquals("이름", memberRepository.findById(member.getId()).getName());
     }
 
-}
\ No newline at end of file
+}
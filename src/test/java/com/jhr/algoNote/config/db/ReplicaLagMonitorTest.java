@@ -0,0 +1,74 @@
+package com.jhr.algoNote.config.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class ReplicaLagMonitorTest {
+
+    @Test
+    @DisplayName("복제 DB 에 heartbeat 가 반영되어 있으면 사용할 수 있다")
+    void inSync() {
+        //given (같은 DB - 지연 0)
+        DataSource primary = heartbeatDatabase();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, primary, Duration.ofSeconds(2));
+
+        //when
+        monitor.check();
+
+        //than
+        assertTrue(monitor.isAvailable());
+        assertTrue(monitor.getLagMillis() < 2_000);
+    }
+
+    @Test
+    @DisplayName("복제 DB 의 heartbeat 가 오래되면 사용하지 않는다")
+    void lagging() {
+        //given (복제되지 않는 다른 DB)
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(heartbeatDatabase(), heartbeatDatabase(),
+            Duration.ofSeconds(2));
+
+        //when
+        monitor.check();
+
+        //than
+        assertFalse(monitor.isAvailable());
+        assertTrue(monitor.getLagMillis() > 2_000);
+    }
+
+    @Test
+    @DisplayName("복제 DB 에 접속할 수 없으면 사용하지 않는다")
+    void unavailable() {
+        //given (heartbeat 테이블이 없는 DB)
+        DataSource replica = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(heartbeatDatabase(), replica,
+            Duration.ofSeconds(2));
+        monitor.update(0);
+
+        //when
+        monitor.check();
+
+        //than
+        assertFalse(monitor.isAvailable());
+        assertEquals(-1, monitor.getLagMillis());
+    }
+
+    private DataSource heartbeatDatabase() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table replica_heartbeat (id integer not null primary key,"
+            + " beat_at bigint not null)");
+        jdbcTemplate.update("insert into replica_heartbeat (id, beat_at) values (1, 0)");
+        return dataSource;
+    }
+}
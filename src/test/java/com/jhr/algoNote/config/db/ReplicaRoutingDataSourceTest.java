@@ -0,0 +1,150 @@
+package com.jhr.algoNote.config.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.config.db.ReplicaRoutingDataSource.Route;
+import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.repository.ProblemRepository;
+import com.jhr.algoNote.repository.ProblemTagRepository;
+import com.jhr.algoNote.repository.ReviewRepository;
+import com.jhr.algoNote.repository.query.ProblemQueryRepository;
+import com.jhr.algoNote.repository.query.ReviewQueryRepository;
+import com.jhr.algoNote.repository.query.ScheduledProblemQueryDto;
+import com.jhr.algoNote.service.MemberService;
+import com.jhr.algoNote.service.ProblemService;
+import com.jhr.algoNote.service.ReviewService;
+import com.jhr.algoNote.service.TagService;
+import com.jhr.algoNote.service.schedule.DueCountWheel;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReplicaRoutingDataSourceTest {
+
+    ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    ReadYourWritesTracker readYourWrites = new ReadYourWritesTracker(Duration.ofMinutes(1));
+    ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(mock(DataSource.class),
+        mock(DataSource.class), lagMonitor, readYourWrites);
+
+    @BeforeEach
+    void setUp() {
+        //로그인한 회원(id 1)의 요청
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("user", new SessionUser(1L, "홍길동", "abc@naver.com", "pic", Role.USER));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        when(lagMonitor.isAvailable()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션만 복제 DB 를 사용한다")
+    void readOnlyToReplica() {
+        //given
+
+        //when
+        Route write = routing.route();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Route read = routing.route();
+
+        //than
+        assertEquals(Route.PRIMARY, write);
+        assertEquals(Route.REPLICA, read);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 크면 읽기도 원본을 사용한다")
+    void laggingReplica() {
+        //given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isAvailable()).thenReturn(false);
+
+        //when
+        Route route = routing.route();
+
+        //than
+        assertEquals(Route.PRIMARY_LAGGING, route);
+    }
+
+    @Test
+    @DisplayName("방금 쓰기를 한 회원의 읽기는 원본을 사용한다")
+    void readYourWrites() {
+        //given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        readYourWrites.markWrite(2L);
+        Route otherMember = routing.route();
+
+        //when
+        readYourWrites.markWrite(1L);
+        Route sameMember = routing.route();
+
+        //than
+        assertEquals(Route.REPLICA, otherMember);
+        assertEquals(Route.PRIMARY_STICKY, sameMember);
+    }
+
+    @Test
+    @DisplayName("문제, 리뷰를 삭제한 회원의 읽기도 원본을 사용한다")
+    void readYourDeletes() {
+        //given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ProblemRepository problemRepository = mock(ProblemRepository.class);
+        ProblemQueryRepository problemQueryRepository = mock(ProblemQueryRepository.class);
+        ReviewRepository reviewRepository = mock(ReviewRepository.class);
+        ProblemService problemService = new ProblemService(mock(MemberService.class), mock(TagService.class),
+            problemRepository, problemQueryRepository, mock(ProblemTagRepository.class),
+            mock(ApplicationEventPublisher.class), mock(DueCountWheel.class), readYourWrites);
+        ReviewService reviewService = new ReviewService(reviewRepository, mock(ReviewQueryRepository.class),
+            mock(TagService.class), problemService, mock(MemberService.class),
+            mock(ApplicationEventPublisher.class), readYourWrites);
+        when(problemQueryRepository.findScheduledByIds(List.of(10L)))
+            .thenReturn(List.of(new ScheduledProblemQueryDto(10L, 1L, "문제", null, null)));
+        when(problemRepository.deleteAllByIds(List.of(10L))).thenReturn(1);
+        when(reviewRepository.countByIdsAndMemberId(List.of(20L), 2L)).thenReturn(1L);
+        when(reviewRepository.findProblemIds(List.of(20L))).thenReturn(List.of(11L));
+        when(reviewRepository.deleteAllByIds(List.of(20L))).thenReturn(1);
+
+        //when
+        problemService.deleteAll(1L, List.of(10L));
+        reviewService.deleteAll(2L, List.of(20L));
+
+        //than
+        assertEquals(Route.PRIMARY_STICKY, routing.route());
+        assertTrue(readYourWrites.isSticky(2L));
+    }
+
+    @Test
+    @DisplayName("sticky-window 가 지나면 다시 복제 DB 를 사용한다")
+    void stickyWindowExpires() throws InterruptedException {
+        //given
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMillis(10));
+        tracker.markWrite(1L);
+
+        //when
+        Thread.sleep(20);
+
+        //than
+        assertFalse(tracker.isSticky(1L));
+    }
+}
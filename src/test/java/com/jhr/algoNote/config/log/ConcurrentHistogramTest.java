@@ -0,0 +1,76 @@
+package com.jhr.algoNote.config.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentHistogramTest {
+
+    @Test
+    @DisplayName("값은 자신이 속한 버킷의 상한을 넘지 않는다")
+    void bucketBounds() {
+        for (long value : new long[]{0, 1, 7, 8, 9, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int index = ConcurrentHistogram.indexOf(value);
+            assertThat(index).isBetween(0, ConcurrentHistogram.BUCKETS - 1);
+            assertThat(ConcurrentHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(ConcurrentHistogram.upperBoundOf(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("분위 값의 오차는 12.5% 이내")
+    void quantile() {
+        //given
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100 + (long) (Math.abs(random.nextGaussian()) * 5_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        //when
+        long p50 = histogram.getValueAtQuantile(0.5);
+        long p99 = histogram.getValueAtQuantile(0.99);
+
+        //than
+        assertThat(p50).isCloseTo(values[values.length / 2], Percentage.withPercentage(12.5));
+        assertThat(p99).isCloseTo(values[(int) (values.length * 0.99) - 1], Percentage.withPercentage(12.5));
+        assertThat(histogram.getMax()).isEqualTo(values[values.length - 1]);
+        assertThat(histogram.getValueAtQuantile(1.0)).isEqualTo(histogram.getMax());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 기록해도 개수, 합계가 맞다")
+    void concurrentRecord() throws InterruptedException {
+        //given
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 1; i <= 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        //than
+        assertThat(histogram.getCount()).isEqualTo(80_000);
+        assertThat(histogram.getSum()).isEqualTo(8L * 10_000 * 10_001 / 2);
+        assertThat(histogram.getMax()).isEqualTo(10_000);
+    }
+}
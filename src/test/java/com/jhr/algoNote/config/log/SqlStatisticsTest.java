@@ -0,0 +1,138 @@
+package com.jhr.algoNote.config.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jhr.algoNote.config.log.SqlStatistics.RequestSnapshot;
+import com.jhr.algoNote.config.log.SqlStatistics.StatementSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SqlStatisticsTest {
+
+    @Test
+    @DisplayName("값만 다른 쿼리는 같은 fingerprint")
+    void fingerprint() {
+        //given
+        String a = "select problem0_.problem_id as problem_1_4_ from problem problem0_\n"
+            + "where problem0_.member_id=3 and problem0_.title like '%dp%'";
+        String b = "SELECT problem0_.problem_id AS problem_1_4_ FROM problem problem0_ "
+            + "WHERE problem0_.member_id=125   AND problem0_.title LIKE 'it''s'";
+
+        //when
+        String fingerprint = SqlFingerprint.of(a);
+
+        //than
+        assertThat(fingerprint).isEqualTo(SqlFingerprint.of(b));
+        assertThat(fingerprint).isEqualTo("select problem0_.problem_id as problem_1_4_ from problem problem0_ "
+            + "where problem0_.member_id=? and problem0_.title like ?");
+    }
+
+    @Test
+    @DisplayName("IN 목록은 길이와 상관없이 하나로 묶는다")
+    void fingerprintInList() {
+        //when
+        String one = SqlFingerprint.of("select * from tag where tag_id in (1)");
+        String many = SqlFingerprint.of("select * from tag where tag_id in (1, 2,3 , ?)");
+
+        //than
+        assertThat(one).isEqualTo("select * from tag where tag_id in (...)");
+        assertThat(many).isEqualTo(one);
+    }
+
+    @Test
+    @DisplayName("같은 쿼리가 임계값보다 많이 반복된 요청은 N+1 로 기록")
+    void detectNPlusOne() {
+        //given
+        SqlStatistics statistics = new SqlStatistics(10);
+
+        //when
+        statistics.beginRequest();
+        statistics.record("select * from problem where member_id=1", 1_000, false);
+        for (long id = 1; id <= 11; id++) {
+            statistics.record("select * from review where problem_id=" + id, 1_000, false);
+        }
+        int count = statistics.endRequest("GET /problems");
+
+        //than
+        assertThat(count).isEqualTo(12);
+        RequestSnapshot requests = statistics.getRequestStats();
+        assertThat(requests.getRequests()).isEqualTo(1);
+        assertThat(requests.getSuspectedRequests()).isEqualTo(1);
+        assertThat(requests.getRecentSuspects()).hasSize(1);
+        assertThat(requests.getRecentSuspects().get(0).getRequest()).isEqualTo("GET /problems");
+        assertThat(requests.getRecentSuspects().get(0).getRepeated()).isEqualTo(11);
+        assertThat(requests.getRecentSuspects().get(0).getFingerprint())
+            .isEqualTo("select * from review where problem_id=?");
+    }
+
+    @Test
+    @DisplayName("임계값 이하면 N+1 이 아니다, 요청 밖의 쿼리는 요청 통계에 포함하지 않는다")
+    void noNPlusOne() {
+        //given
+        SqlStatistics statistics = new SqlStatistics(10);
+        statistics.record("select * from member where member_id=1", 1_000, false);
+
+        //when
+        statistics.beginRequest();
+        for (long id = 1; id <= 10; id++) {
+            statistics.record("select * from review where problem_id=" + id, 1_000, false);
+        }
+        int count = statistics.endRequest("GET /problems");
+
+        //than
+        assertThat(count).isEqualTo(10);
+        assertThat(statistics.getRequestStats().getSuspectedRequests()).isZero();
+        assertThat(statistics.endRequest("GET /problems")).isEqualTo(-1); //시작하지 않은 요청
+    }
+
+    @Test
+    @DisplayName("총 실행 시간이 긴 순서로 정렬")
+    void topStatements() {
+        //given
+        SqlStatistics statistics = new SqlStatistics(10);
+        for (int i = 0; i < 100; i++) {
+            statistics.record("select * from tag where name='t" + i + "'", 10_000, false); //10µs
+        }
+        statistics.record("select * from problem where title like '%a%'", 5_000_000, false); //5ms
+        statistics.record("insert into tag (name, tag_id) values ('a', 1)", 1_000, true);
+
+        //when
+        List<StatementSnapshot> top = statistics.getTopStatements(2);
+
+        //than
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0).getFingerprint()).isEqualTo("select * from problem where title like ?");
+        assertThat(top.get(0).getTotalMicros()).isEqualTo(5_000);
+        assertThat(top.get(1).getFingerprint()).isEqualTo("select * from tag where name=?");
+        assertThat(top.get(1).getCount()).isEqualTo(100);
+        assertThat(top.get(1).getTotalMicros()).isEqualTo(1_000);
+        assertThat(statistics.getTopStatements(10)).extracting(StatementSnapshot::getErrors)
+            .containsExactly(0L, 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("reset 은 관리자 통계만 지우고 메트릭은 줄어들지 않는다")
+    void resetKeepsMetrics() {
+        //given
+        SqlStatistics statistics = new SqlStatistics(1);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        statistics.bindTo(registry);
+        statistics.beginRequest();
+        statistics.record("select * from review where problem_id=1", 1_000, false);
+        statistics.record("select * from review where problem_id=2", 1_000, false);
+        statistics.endRequest("GET /problems");
+
+        //when
+        statistics.reset();
+        statistics.record("select * from tag where tag_id=1", 1_000, false);
+
+        //than
+        assertThat(statistics.getTopStatements(10)).hasSize(1);
+        assertThat(statistics.getRequestStats().getSuspectedRequests()).isZero();
+        assertThat(registry.get("algonote.sql.statements").functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("algonote.sql.n_plus_one.requests").functionCounter().count()).isEqualTo(1);
+    }
+}
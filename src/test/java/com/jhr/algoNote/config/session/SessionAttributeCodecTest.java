@@ -0,0 +1,58 @@
+package com.jhr.algoNote.config.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.domain.Role;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.DefaultSerializer;
+
+class SessionAttributeCodecTest {
+
+    final SessionAttributeCodec codec = new SessionAttributeCodec(getClass().getClassLoader());
+    final SessionUser user = new SessionUser(1L, "홍길동", "abc@gmail.com",
+        "https://lh3.googleusercontent.com/a/picture", Role.USER);
+
+    @Test
+    @DisplayName("SessionUser 직렬화 후 같은 값으로 복원된다")
+    void sessionUserRoundTrip() throws Exception {
+        //when
+        byte[] bytes = codec.serializeToByteArray(user);
+        Object result = codec.deserializeFromByteArray(bytes);
+
+        //than
+        assertEquals(user, result);
+    }
+
+    @Test
+    @DisplayName("null 필드를 가진 SessionUser 도 복원된다")
+    void nullFields() throws Exception {
+        SessionUser nullUser = new SessionUser(null, "홍길동", "abc@gmail.com", null, null);
+
+        assertEquals(nullUser, codec.deserializeFromByteArray(codec.serializeToByteArray(nullUser)));
+    }
+
+    @Test
+    @DisplayName("그 외 속성은 자바 직렬화로 복원된다")
+    void otherAttribute() throws Exception {
+        Map<String, Object> value = new HashMap<>();
+        value.put("key", 1);
+
+        assertEquals(value, codec.deserializeFromByteArray(codec.serializeToByteArray(value)));
+    }
+
+    @Test
+    @DisplayName("SessionUser 는 자바 직렬화보다 작아야 한다 (속도는 SessionCodecBenchmark)")
+    void compact() throws Exception {
+        //when
+        byte[] compact = codec.serializeToByteArray(user);
+        byte[] java = new DefaultSerializer().serializeToByteArray(user);
+
+        //than
+        assertTrue(compact.length * 3 < java.length);
+    }
+}
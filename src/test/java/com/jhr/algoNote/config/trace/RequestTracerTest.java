@@ -0,0 +1,140 @@
+package com.jhr.algoNote.config.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jhr.algoNote.config.trace.RequestTrace.Category;
+import com.jhr.algoNote.config.trace.RequestTrace.Span;
+import com.jhr.algoNote.domain.Role;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RequestTracerTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTrace.setCurrent(null);
+    }
+
+    @Test
+    @DisplayName("구간은 시작 순서대로, 중첩은 depth 로 기록")
+    void nestedSpans() {
+        //given
+        RequestTracer tracer = new RequestTracer(10, 100, "");
+        RequestTrace trace = tracer.begin("GET /problems");
+
+        //when
+        try (Span controller = trace.start(Category.CONTROLLER, "ProblemController.list")) {
+            try (Span service = trace.start(Category.SERVICE, "ProblemService.search")) {
+                trace.record(Category.SQL, "select * from problem", 1_000_000, null);
+            }
+        }
+        trace.record(Category.SQL, "select * from tag", 1_000_000, null);
+        tracer.finish(200);
+
+        //than
+        assertThat(RequestTrace.current()).isNull();
+        List<Span> spans = trace.getSpans();
+        assertThat(spans).extracting(Span::getCategory)
+            .containsExactly(Category.CONTROLLER, Category.SERVICE, Category.SQL, Category.SQL);
+        assertThat(spans).extracting(Span::getDepth).containsExactly(0, 1, 2, 0);
+        assertThat(spans.get(2).getDurationMicros()).isEqualTo(1_000);
+        assertThat(spans.get(0).getDurationMicros())
+            .isGreaterThanOrEqualTo(spans.get(1).getDurationMicros());
+        assertThat(trace.getSqlCount()).isEqualTo(2);
+        assertThat(trace.getSqlMicros()).isEqualTo(2_000);
+        assertThat(trace.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("닫지 않은 구간은 요청 끝까지로 본다")
+    void unclosedSpan() {
+        //given
+        RequestTracer tracer = new RequestTracer(10, 100, "");
+        RequestTrace trace = tracer.begin("GET /problems/1");
+
+        //when
+        trace.start(Category.CONTROLLER, "ProblemController.detail");
+        tracer.finish(500);
+
+        //than
+        Span span = trace.getSpans().get(0);
+        assertThat(span.getDurationMicros()).isEqualTo(trace.getDurationMicros());
+        assertThat(span.getWidthPercent()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("maxSpans 를 넘는 구간은 개수만 센다")
+    void maxSpans() {
+        //given
+        RequestTracer tracer = new RequestTracer(10, 3, "");
+        RequestTrace trace = tracer.begin("GET /problems");
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            trace.record(Category.SQL, "select * from review where problem_id=" + i, 1_000, null);
+        }
+        tracer.finish(200);
+
+        //than
+        assertThat(trace.getSpans()).hasSize(3);
+        assertThat(trace.getDroppedSpans()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최근 capacity 개만 최신 순으로 보관")
+    void capacity() {
+        //given
+        RequestTracer tracer = new RequestTracer(2, 100, "");
+
+        //when
+        for (int i = 1; i <= 3; i++) {
+            tracer.begin("GET /problems/" + i);
+            tracer.finish(200);
+        }
+
+        //than
+        assertThat(tracer.getRecent(10)).extracting(RequestTrace::getRequest)
+            .containsExactly("GET /problems/3", "GET /problems/2");
+        assertThat(tracer.getRecent(1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 ADMIN 의 헤더 요청만 추적, 다른 회원의 헤더는 무시")
+    void shouldTrace() {
+        //given
+        RequestTracer tracer = new RequestTracer(10, 100, "");
+        MockHttpServletRequest plain = new MockHttpServletRequest("GET", "/problems");
+        MockHttpServletRequest admin = new MockHttpServletRequest("GET", "/problems");
+        admin.addHeader(RequestTracer.HEADER, "true");
+        admin.addUserRole(Role.ADMIN.name());
+        MockHttpServletRequest user = new MockHttpServletRequest("GET", "/problems");
+        user.addHeader(RequestTracer.HEADER, "true");
+        user.addUserRole(Role.USER.name());
+
+        //when, than
+        assertThat(tracer.shouldTrace(plain)).isFalse();
+        assertThat(tracer.shouldTrace(admin)).isTrue();
+        assertThat(tracer.shouldTrace(user)).isFalse();
+
+        tracer.setEnabled(true);
+        assertThat(tracer.shouldTrace(plain)).isTrue();
+    }
+
+    @Test
+    @DisplayName("헤더 값이 secret 과 같으면 로그인하지 않아도 추적")
+    void shouldTraceWithSecret() {
+        //given
+        RequestTracer tracer = new RequestTracer(10, 100, "s3cret");
+        MockHttpServletRequest secret = new MockHttpServletRequest("GET", "/problems");
+        secret.addHeader(RequestTracer.HEADER, "s3cret");
+        MockHttpServletRequest wrong = new MockHttpServletRequest("GET", "/problems");
+        wrong.addHeader(RequestTracer.HEADER, "true");
+
+        //when, than
+        assertThat(tracer.shouldTrace(secret)).isTrue();
+        assertThat(tracer.shouldTrace(wrong)).isFalse();
+    }
+}
@@ -1,8 +1,11 @@
 package com.jhr.algoNote.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jhr.algoNote.cache.SecondLevelCacheStatistics;
 import com.jhr.algoNote.config.auth.SecurityConfig;
 import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.config.log.SqlStatistics;
+import com.jhr.algoNote.config.trace.RequestTracer;
 import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.domain.Problem;
 import com.jhr.algoNote.domain.content.ProblemContent;
@@ -45,6 +48,15 @@ class AdminControllerTest {
     @Autowired
     MockMvc mvc;
 
+    @MockBean
+    SqlStatistics sqlStatistics;
+
+    @MockBean
+    SecondLevelCacheStatistics secondLevelCacheStatistics;
+
+    @MockBean
+    RequestTracer requestTracer;
+
     private MockHttpSession httpSession;
     final Member member = new Member("홍길동", "abc@naver.com", "pic", null);
 
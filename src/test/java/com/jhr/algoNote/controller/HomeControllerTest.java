@@ -8,9 +8,15 @@ import com.jhr.algoNote.domain.Problem;
 import com.jhr.algoNote.domain.content.ProblemContent;
 import com.jhr.algoNote.repository.query.ProblemSearch;
 import com.jhr.algoNote.service.ProblemService;
+import com.jhr.algoNote.support.ExpectedQueries;
+import com.jhr.algoNote.support.ProblemFixture;
+import com.jhr.algoNote.support.QueryCountTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,12 +28,15 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.NestedTestConfiguration;
+import org.springframework.test.context.NestedTestConfiguration.EnclosingConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -93,4 +102,36 @@ class HomeControllerTest {
                 .andExpect(view().name("home"));
     }
 
-}
\ No newline at end of file
+    /**
+     * 실제 DB 로 요청, 문제 수와 상관없이 쿼리 수가 같아야 한다. (태그는 배치 로딩)
+     */
+    @Nested
+    @NestedTestConfiguration(EnclosingConfiguration.OVERRIDE)
+    @QueryCountTest
+    class QueryBudget {
+
+        @Autowired
+        MockMvc mvc;
+
+        @Autowired
+        ProblemFixture fixture;
+
+        @ParameterizedTest(name = "문제 {0}개")
+        @ValueSource(ints = {1, 50})
+        @WithMockUser
+        @ExpectedQueries(max = 3) // 문제, 문제 태그, 태그
+        void home(int problems) throws Exception {
+            //given
+            Member member = fixture.createMember();
+            fixture.createProblems(member, problems, 0);
+            MockHttpSession session = new MockHttpSession();
+            session.setAttribute("user", new SessionUser(member));
+
+            //when
+            //than
+            mvc.perform(MockMvcRequestBuilders.get("/").session(session))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attribute("problems", hasSize(problems)));
+        }
+    }
+}
@@ -10,14 +10,21 @@ import com.jhr.algoNote.domain.Role;
 import com.jhr.algoNote.domain.content.ProblemContent;
 import com.jhr.algoNote.domain.content.ReviewContent;
 import com.jhr.algoNote.dto.ProblemCreateRequest;
+import com.jhr.algoNote.dto.ResourceVersion;
 import com.jhr.algoNote.repository.query.ProblemSearch;
 import com.jhr.algoNote.service.MemberService;
 import com.jhr.algoNote.service.ProblemService;
 import com.jhr.algoNote.service.ReviewService;
+import com.jhr.algoNote.support.ExpectedQueries;
+import com.jhr.algoNote.support.ProblemFixture;
+import com.jhr.algoNote.support.QueryCountTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -28,14 +35,20 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.NestedTestConfiguration;
+import org.springframework.test.context.NestedTestConfiguration.EnclosingConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -70,6 +83,7 @@ class ProblemControllerTest {
     @BeforeEach
     public void setUp() {
         httpSession = new MockHttpSession();
+        ReflectionTestUtils.setField(member, "id", 1L);
         httpSession.setAttribute("user", new SessionUser(member));
         MockitoAnnotations.openMocks(this);
     }
@@ -110,8 +124,6 @@ class ProblemControllerTest {
         ProblemForm problemForm = new ProblemForm();
         problemForm.setTitle("유효한제목"); //유효성 검증 성공
         //when
-        Mockito.when(memberService.findByEmail(ArgumentMatchers.anyString()))
-                .thenReturn(member);
         Mockito.when(problemService.register(ArgumentMatchers.anyLong(), ArgumentMatchers.any(ProblemCreateRequest.class)))
                 .thenReturn(1234L);
 
@@ -122,6 +134,10 @@ class ProblemControllerTest {
                         .session(httpSession))
                 .andExpect(status().is3xxRedirection());
 
+        //세션의 회원 id를 사용하며, 이메일로 회원을 조회하지 않는다.
+        verify(problemService).register(ArgumentMatchers.eq(1L), ArgumentMatchers.any(ProblemCreateRequest.class));
+        verify(memberService, Mockito.never()).findByEmail(ArgumentMatchers.anyString());
+
     }
 
 
@@ -169,8 +185,6 @@ class ProblemControllerTest {
                 .build();
         Long PROBLEM_ID = 987654321L;
 
-        Mockito.when(memberService.findByEmail(ArgumentMatchers.anyString()))
-                .thenReturn(member);
         Mockito.when(problemService.findOne(ArgumentMatchers.anyLong()))
                 .thenReturn(problem);
         //than
@@ -189,8 +203,6 @@ class ProblemControllerTest {
         problemForm.setTitle(""); //유효성 검증 실패
         Long PROBLEM_ID = 987654321L;
         //when
-        Mockito.when(memberService.findByEmail(ArgumentMatchers.anyString()))
-                .thenReturn(member);
 
         //than
         mvc.perform(post("/problems/"+PROBLEM_ID +"/edit")
@@ -209,8 +221,6 @@ class ProblemControllerTest {
         problemForm.setTitle("유효한제목"); //유효성 검증 성공
         Long PROBLEM_ID = 987654321L;
         //when
-        Mockito.when(memberService.findByEmail(ArgumentMatchers.anyString()))
-                .thenReturn(member);
 
 
         //than
@@ -231,7 +241,7 @@ class ProblemControllerTest {
         //given
         ProblemSearch problemSearch = ProblemSearch.builder()
                 .keyword("")
-                .memberEmail(member.getEmail())
+                .memberId(member.getId())
                 .build();
         //when
         //than
@@ -249,7 +259,7 @@ class ProblemControllerTest {
     void problemSearch_no_result() throws Exception {
         //given
         List<Problem> problems = new ArrayList<>();
-        ProblemSearch problemSearch = ProblemSearch.builder().keyword("keword").memberEmail(member.getEmail()).build();
+        ProblemSearch problemSearch = ProblemSearch.builder().keyword("keword").memberId(member.getId()).build();
         //when
         Mockito.when(problemService.search(ArgumentMatchers.any(ProblemSearch.class)))
                 .thenReturn(problems);
@@ -283,7 +293,7 @@ class ProblemControllerTest {
                 .build();
         problems.add(p);
 
-        ProblemSearch problemSearch = ProblemSearch.builder().keyword("keword").memberEmail(member.getEmail()).build();
+        ProblemSearch problemSearch = ProblemSearch.builder().keyword("keword").memberId(member.getId()).build();
         //when
         Mockito.when(problemService.search(ArgumentMatchers.any(ProblemSearch.class)))
                 .thenReturn(problems);
@@ -345,6 +355,27 @@ class ProblemControllerTest {
     }
 
 
+    @Test
+    @WithMockUser
+    @DisplayName("문제 상세 : 변경되지 않은 문제는 조회하지 않고 304를 반환한다.")
+    void problemDetail_NotModified() throws Exception {
+        //given
+        Long PROBLEM_ID = 987654321L;
+        ResourceVersion version = new ResourceVersion(LocalDateTime.of(2022, 1, 1, 0, 0), PROBLEM_ID, 0L, 0L);
+        String eTag = "\"" + version.toETag(httpSession.getAttribute("user")) + "\"";
+        //when
+        Mockito.when(problemService.findVersion(ArgumentMatchers.anyLong()))
+                .thenReturn(version);
+        //than
+        mvc.perform(get("/problems/"+PROBLEM_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .session(httpSession))
+                .andExpect(status().isNotModified());
+
+        verify(problemService, Mockito.never()).findOne(ArgumentMatchers.anyLong());
+    }
+
+
     @Disabled
     @Test
     @WithMockUser
@@ -385,4 +416,57 @@ class ProblemControllerTest {
 
     }
 
-}
\ No newline at end of file
+
+    /**
+     * 실제 DB 로 요청, 문제/리뷰 수와 상관없이 쿼리 수가 같아야 한다. (태그, 리뷰 태그는 배치 로딩)
+     */
+    @Nested
+    @NestedTestConfiguration(EnclosingConfiguration.OVERRIDE)
+    @QueryCountTest
+    class QueryBudget {
+
+        @Autowired
+        MockMvc mvc;
+
+        @Autowired
+        ProblemFixture fixture;
+
+        private MockHttpSession sessionOf(Member member) {
+            MockHttpSession session = new MockHttpSession();
+            session.setAttribute("user", new SessionUser(member));
+            return session;
+        }
+
+        @ParameterizedTest(name = "문제 {0}개")
+        @ValueSource(ints = {1, 50})
+        @WithMockUser
+        @ExpectedQueries(max = 5) // 버전(문제, 리뷰), 문제, 문제 태그, 태그
+        void list(int problems) throws Exception {
+            //given
+            Member member = fixture.createMember();
+            fixture.createProblems(member, problems, 1);
+
+            //when
+            //than
+            mvc.perform(get("/problems").session(sessionOf(member)))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attribute("problems", hasSize(problems)));
+        }
+
+        @ParameterizedTest(name = "리뷰 {0}개")
+        @ValueSource(ints = {1, 50})
+        @WithMockUser
+        @ExpectedQueries(max = 9) // 버전, 문제, 내용(+ 역방향 조회), 문제 태그, 태그, 리뷰, 리뷰 태그, 태그
+        void details(int reviews) throws Exception {
+            //given
+            Member member = fixture.createMember();
+            Long problemId = fixture.createProblems(member, 1, reviews).get(0);
+
+            //when
+            //than
+            mvc.perform(get("/problems/" + problemId).session(sessionOf(member)))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attribute("reviews", hasSize(reviews)));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.jhr.algoNote.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jhr.algoNote.config.auth.SecurityConfig;
+import com.jhr.algoNote.config.auth.dto.SessionUser;
+import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.service.ReviewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@MockBean(JpaMetamodelMappingContext.class)
+@WebMvcTest(value = ReviewController.class,
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class)})
+@AutoConfigureMockMvc(addFilters = false)
+class ReviewControllerTest {
+
+    @MockBean
+    ReviewService reviewService;
+
+    @Autowired
+    MockMvc mvc;
+
+    private MockHttpSession httpSession;
+
+    @BeforeEach
+    void setUp() {
+        httpSession = new MockHttpSession();
+        httpSession.setAttribute("user", new SessionUser(1L, "홍길동", "abc@naver.com", "pic", Role.USER));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("리뷰 등록 : 복습 평가가 범위 밖이면 400, 리뷰를 만들지 않는다")
+    void create_quality_out_of_range() throws Exception {
+        //when
+        //than
+        mvc.perform(post("/reviews/new")
+                        .param("title", "제목")
+                        .param("problemId", "10")
+                        .param("quality", "9")
+                        .session(httpSession))
+                .andExpect(status().isBadRequest());
+        verify(reviewService, never()).createReview(anyLong(), any());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("리뷰 등록 : 문제 상세로 이동")
+    void create() throws Exception {
+        //when
+        //than
+        mvc.perform(post("/reviews/new")
+                        .param("title", "제목")
+                        .param("problemId", "10")
+                        .param("quality", "5")
+                        .session(httpSession))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/problems/10"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.jhr.algoNote.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReviewScheduleTest {
+
+    final LocalDateTime now = LocalDateTime.of(2021, 12, 1, 9, 0);
+
+    @Test
+    @DisplayName("성공한 복습이 이어지면 1일, 6일, 6 x EF 일 뒤로 미뤄진다")
+    void successiveReviews() {
+        //given
+        ReviewSchedule schedule = ReviewSchedule.initial(now);
+
+        //when
+        ReviewSchedule first = schedule.next(5, now);
+        ReviewSchedule second = first.next(5, now);
+        ReviewSchedule third = second.next(5, now);
+
+        //than
+        assertEquals(1, first.getIntervalDays());
+        assertEquals(6, second.getIntervalDays());
+        assertEquals(Math.round(6 * second.getEaseFactor()), third.getIntervalDays());
+        assertEquals(now.plusDays(third.getIntervalDays()), third.getNextReviewAt());
+        assertEquals(2.8, third.getEaseFactor(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("평가가 3 미만이면 처음부터 다시 시작하고 EF 는 1.3 아래로 내려가지 않는다")
+    void failedReview() {
+        //given
+        ReviewSchedule schedule = ReviewSchedule.initial(now).next(5, now).next(5, now);
+
+        //when
+        ReviewSchedule failed = schedule;
+        for (int i = 0; i < 10; i++) {
+            failed = failed.next(0, now);
+        }
+
+        //than
+        assertEquals(0, failed.getRepetition());
+        assertEquals(1, failed.getIntervalDays());
+        assertEquals(1.3, failed.getEaseFactor(), 1e-9);
+    }
+
+    @Test
+    void 평가는_0에서_5사이() {
+        ReviewSchedule schedule = ReviewSchedule.initial(now);
+        assertThrows(IllegalArgumentException.class, () -> schedule.next(6, now));
+        assertThrows(IllegalArgumentException.class, () -> schedule.next(-1, now));
+    }
+}
@@ -0,0 +1,72 @@
+package com.jhr.algoNote.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class DataGeneratorTest {
+
+    @Autowired
+    DataGenerator dataGenerator;
+
+    @Autowired
+    EntityManager em;
+
+    //스레드 1개면 테스트 트랜잭션에 참여하므로 롤백된다
+    private final GeneratorSpec spec = GeneratorSpec.builder()
+        .seed(7)
+        .members(3)
+        .problems(20)
+        .reviewsPerProblem(2)
+        .tags(50)
+        .threads(1)
+        .batchSize(7)
+        .build();
+
+    @Test
+    @DisplayName("회원별로 문제를 나눠 저장하고, 리뷰 개수를 문제에 반영한다")
+    void generate() {
+        //when
+        GenerationResult result = dataGenerator.generate(spec);
+
+        //than
+        assertThat(result.getProblems()).isEqualTo(20);
+        assertThat(countProblemsOf(0)).isEqualTo(7);
+        assertThat(countProblemsOf(2)).isEqualTo(6);
+
+        Long reviews = em.createQuery("select count(r) from Review r where r.member.email like :email", Long.class)
+            .setParameter("email", "%.seed7@algonote.dev")
+            .getSingleResult();
+        Long reviewCountSum = em.createQuery(
+                "select sum(p.reviewCount) from Problem p where p.member.email like :email", Long.class)
+            .setParameter("email", "%.seed7@algonote.dev")
+            .getSingleResult();
+        assertThat(reviews).isEqualTo(result.getReviews());
+        assertThat(reviewCountSum).isEqualTo(result.getReviews());
+    }
+
+    @Test
+    @DisplayName("같은 seed 로 두 번 생성할 수 없다")
+    void sameSeedTwice() {
+        //given
+        dataGenerator.generate(spec);
+
+        //when
+        //than
+        assertThrows(IllegalArgumentException.class, () -> dataGenerator.generate(spec));
+    }
+
+    private long countProblemsOf(int member) {
+        return em.createQuery("select count(p) from Problem p where p.member.email = :email", Long.class)
+            .setParameter("email", spec.emailOf(member))
+            .getSingleResult();
+    }
+}
@@ -0,0 +1,48 @@
+package com.jhr.algoNote.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ZipfSamplerTest {
+
+    @Test
+    @DisplayName("앞 순위일수록 자주 뽑힌다")
+    void rankFrequency() {
+        //given
+        ZipfSampler sampler = new ZipfSampler(100, 1.07);
+        SplittableRandom random = new SplittableRandom(1);
+
+        //when
+        int[] counts = new int[sampler.size()];
+        for (int i = 0; i < 100_000; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        //than
+        assertThat(counts[0]).isGreaterThan(counts[1]);
+        assertThat(counts[1]).isGreaterThan(counts[9]);
+        assertThat(counts[9]).isGreaterThan(counts[99]);
+        // 1 / H(100, 1.07) ≈ 0.22
+        assertThat(counts[0] / 100_000.0).isBetween(0.20, 0.24);
+    }
+
+    @Test
+    @DisplayName("같은 시드면 같은 순서로 뽑힌다")
+    void deterministic() {
+        //given
+        ZipfSampler sampler = new ZipfSampler(500, 1.07);
+        SplittableRandom a = new SplittableRandom(42);
+        SplittableRandom b = new SplittableRandom(42);
+
+        //when
+        //than
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(sampler.sample(a)).isEqualTo(sampler.sample(b));
+        }
+        assertThat(ContentGenerator.problemMarkdown(new SplittableRandom(7)))
+            .isEqualTo(ContentGenerator.problemMarkdown(new SplittableRandom(7)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.jhr.algoNote.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+
+import com.jhr.algoNote.config.trace.RequestTrace;
+import com.jhr.algoNote.config.trace.RequestTrace.Category;
+import com.jhr.algoNote.config.trace.RequestTrace.Span;
+import com.jhr.algoNote.config.trace.RequestTracer;
+import com.jhr.algoNote.domain.Role;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TraceInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestTracer requestTracer;
+
+    @BeforeEach
+    void setUp() {
+        requestTracer.clear();
+    }
+
+    @Test
+    void ADMIN_의_헤더가_있는_요청만_추적() throws Exception {
+        //when
+        mockMvc.perform(MockMvcRequestBuilders.get("/"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/").header(RequestTracer.HEADER, "true"))
+                .andExpect(MockMvcResultMatchers.status().isOk()); //로그인하지 않은 요청
+        mockMvc.perform(MockMvcRequestBuilders.get("/").header(RequestTracer.HEADER, "true")
+                        .with(user("user").roles(Role.USER.name())))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/").header(RequestTracer.HEADER, "true")
+                        .with(user("admin").roles(Role.ADMIN.name())))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        //than
+        List<RequestTrace> traces = requestTracer.getRecent(10);
+        assertThat(traces).hasSize(1);
+        RequestTrace trace = traces.get(0);
+        assertThat(trace.getRequest()).isEqualTo("GET /");
+        assertThat(trace.getStatus()).isEqualTo(200);
+        assertThat(trace.getSpans()).extracting(Span::getCategory)
+                .contains(Category.CONTROLLER, Category.RENDER);
+        assertThat(RequestTrace.current()).isNull();
+    }
+}
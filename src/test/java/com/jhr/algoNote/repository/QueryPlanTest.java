@@ -0,0 +1,225 @@
+package com.jhr.algoNote.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jhr.algoNote.domain.Member;
+import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.dto.ProblemCreateRequest;
+import com.jhr.algoNote.dto.ReviewCreateRequest;
+import com.jhr.algoNote.repository.query.ProblemField;
+import com.jhr.algoNote.repository.query.ProblemQueryRepository;
+import com.jhr.algoNote.repository.query.ProblemSearch;
+import com.jhr.algoNote.service.MemberService;
+import com.jhr.algoNote.service.ProblemService;
+import com.jhr.algoNote.service.ReviewService;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 저장소 쿼리의 실행 계획 검증
+ * <p>
+ * 실제로 실행된 SQL(바인딩 값 포함)을 p6spy 로 모아 EXPLAIN 하고, 테이블 전체 스캔(tableScan)이 있으면 실패한다. 스키마(인덱스)는
+ * 마이그레이션으로 만들어진 것을 사용한다.
+ */
+@SpringBootTest
+@Transactional
+@Import(QueryPlanTest.SqlCaptureConfig.class)
+class QueryPlanTest {
+
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    ProblemService problemService;
+    @Autowired
+    ReviewService reviewService;
+    @Autowired
+    ProblemQueryRepository problemQueryRepository;
+    @Autowired
+    ReviewRepository reviewRepository;
+    @Autowired
+    ProblemTagRepository problemTagRepository;
+    @Autowired
+    EntityManager em;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    SqlCapture sqlCapture;
+
+    private Long memberId;
+    private final List<Long> problemIds = new ArrayList<>();
+    private final List<Long> reviewIds = new ArrayList<>();
+
+    /**
+     * 회원 3명, 회원마다 문제 10개(태그 2개), 문제마다 리뷰 2개(태그 1개)
+     */
+    @BeforeEach
+    void setUp() {
+        for (int m = 0; m < 3; m++) {
+            Member member = Member.builder()
+                .name("User" + m)
+                .email("plan" + m + "@gmail.com")
+                .role(Role.USER)
+                .build();
+            memberService.join(member);
+            memberId = member.getId();
+            problemIds.clear();
+            reviewIds.clear();
+            for (int p = 0; p < 10; p++) {
+                Long problemId = problemService.register(memberId, ProblemCreateRequest.builder()
+                    .title("문제" + p)
+                    .contentText("내용" + p)
+                    .tagText("dp,bfs")
+                    .site("백준")
+                    .url("")
+                    .build());
+                problemIds.add(problemId);
+                for (int r = 0; r < 2; r++) {
+                    reviewIds.add(reviewService.createReview(memberId, ReviewCreateRequest.builder()
+                        .problemId(problemId)
+                        .title("리뷰" + r)
+                        .contentText("리뷰 내용" + r)
+                        .tagText("dp")
+                        .build()));
+                }
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("ProblemQueryRepository 의 조회는 전체 스캔을 하지 않는다")
+    void problemQueryRepository() {
+        //given
+        ProblemSearch problemSearch = ProblemSearch.builder()
+            .memberId(memberId)
+            .keyword("dp")
+            .build();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = problemIds.subList(0, 3);
+
+        //when
+        List<String> statements = sqlCapture.capture(() -> {
+            problemQueryRepository.search(problemSearch);
+            problemQueryRepository.findProblemsByIds(ids, EnumSet.allOf(ProblemField.class));
+            problemQueryRepository.findTagNames(ids);
+            problemQueryRepository.findReviewTitles(ids);
+            problemQueryRepository.findVersion(ids.get(0));
+            problemQueryRepository.findCollectionVersion(memberId);
+            problemQueryRepository.findDueProblems(memberId, now.plusDays(7), 100);
+            problemQueryRepository.countDueProblems(memberId, now.plusDays(7));
+            problemQueryRepository.countDueProblemsByMember(now.plusDays(7));
+            problemQueryRepository.findScheduledBetween(now, now.plusDays(1));
+            problemQueryRepository.findScheduledByIds(ids);
+        });
+
+        //than
+        assertNoFullScan(statements);
+    }
+
+    @Test
+    @DisplayName("ReviewRepository 의 조회, 삭제는 전체 스캔을 하지 않는다")
+    void reviewRepository() {
+        //given
+        List<Long> ids = reviewIds.subList(0, 4);
+
+        //when
+        List<String> statements = sqlCapture.capture(() -> {
+            reviewRepository.findOne(ids.get(0));
+            reviewRepository.findByMemberId(memberId);
+            reviewRepository.findVersion(ids.get(0));
+            reviewRepository.countByIdsAndMemberId(ids, memberId);
+            reviewRepository.findProblemIds(ids);
+            reviewRepository.deleteAllByIds(ids);
+        });
+
+        //than
+        assertNoFullScan(statements);
+    }
+
+    @Test
+    @DisplayName("ProblemTagRepository 의 삭제는 전체 스캔을 하지 않는다")
+    void problemTagRepository() {
+        //when
+        List<String> statements = sqlCapture.capture(
+            () -> problemTagRepository.deleteAllByProblemId(problemIds.get(0)));
+
+        //than
+        assertNoFullScan(statements);
+    }
+
+    private void assertNoFullScan(List<String> statements) {
+        assertFalse(statements.isEmpty(), "실행된 쿼리가 없습니다.");
+        List<String> fullScans = new ArrayList<>();
+        for (String sql : new LinkedHashSet<>(statements)) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+            if (plan.contains(".tableScan")) {
+                fullScans.add(plan);
+            }
+        }
+        assertTrue(fullScans.isEmpty(),
+            () -> "전체 스캔하는 쿼리가 있습니다.\n" + String.join("\n\n", fullScans));
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+    }
+
+    /**
+     * capture 중에 실행된 select, update, delete 를 바인딩 값을 채운 SQL 로 수집
+     */
+    static class SqlCapture extends SimpleJdbcEventListener {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean capturing;
+
+        List<String> capture(Runnable queries) {
+            statements.clear();
+            capturing = true;
+            try {
+                queries.run();
+            } finally {
+                capturing = false;
+            }
+            return new ArrayList<>(statements);
+        }
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation,
+            long timeElapsedNanos, SQLException e) {
+            if (!capturing || e != null) {
+                return;
+            }
+            String sql = statementInformation.getSqlWithValues().trim();
+            String type = sql.length() < 6 ? "" : sql.substring(0, 6).toLowerCase(Locale.ROOT);
+            if (type.equals("select") || type.equals("update") || type.equals("delete")) {
+                statements.add(sql);
+            }
+        }
+    }
+}
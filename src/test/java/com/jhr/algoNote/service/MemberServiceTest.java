@@ -4,6 +4,7 @@ import com.jhr.algoNote.domain.Member;
 import com.jhr.algoNote.domain.Role;
 import com.jhr.algoNote.exception.EmailRedundancyException;
 import com.jhr.algoNote.repository.MemberRepository;
+import com.jhr.algoNote.repository.query.MemberQueryDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
@@ -69,6 +71,24 @@ public class MemberServiceTest {
         }, "예외가 발생해야 한다.");
     }
 
+    @Test
+    public void 이메일_필터에_없는_중복_가입도_중복_예외() throws Exception {
+        // given 필터를 거치지 않고 저장된 회원 (다른 트랜잭션에서 먼저 커밋된 가입)
+        String duplicateEmail = "unfiltered@gmail.com";
+        memberRepository.saveAndFlush(Member.builder()
+                .name("김철수")
+                .email(duplicateEmail)
+                .role(Role.USER)
+                .build());
+
+        // when, then unique 제약 위반도 500 이 아닌 중복 예외
+        assertThrows(EmailRedundancyException.class, () -> memberService.join(Member.builder()
+                .name("김철수")
+                .email(duplicateEmail)
+                .role(Role.USER)
+                .build()));
+    }
+
     @Test
     public void 회원_전체_조회() throws Exception {
         // given
@@ -93,6 +113,37 @@ public class MemberServiceTest {
         assertEquals(2, result.size());
     }
 
+    @Test
+    void 회원_목록_페이징_조회() throws Exception {
+        // given
+        for (int i = 0; i < 5; i++) {
+            memberService.join(Member.builder()
+                    .name("회원" + i)
+                    .email("member" + i + "@gmail.com")
+                    .role(Role.USER)
+                    .build());
+        }
+
+        // when
+        List<MemberQueryDto> first = memberService.findMembers(null, 3, true);
+        List<MemberQueryDto> second = memberService.findMembers(first.get(2).getId(), 3, false);
+
+        // then
+        assertEquals(3, first.size());
+        assertEquals(0L, first.get(0).getProblemCount());
+        assertEquals(0L, first.get(0).getReviewCount());
+        assertEquals(2, second.size());
+        assertEquals("회원3", second.get(0).getName());
+        assertNull(second.get(0).getProblemCount());
+    }
+
+    @Test
+    void 회원_목록_페이지_크기_제한() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> {
+            memberService.findMembers(null, MemberService.MAX_PAGE_SIZE + 1, false);
+        }, "페이지 크기가 너무 크면 예외가 발생해야 합니다.");
+    }
+
     @Test
     public void 회원_1명_조회() throws Exception {
         // given
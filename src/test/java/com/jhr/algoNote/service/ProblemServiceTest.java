@@ -8,11 +8,23 @@ import com.jhr.algoNote.domain.Problem;
 import com.jhr.algoNote.domain.Role;
 import com.jhr.algoNote.dto.ProblemCreateRequest;
 import com.jhr.algoNote.dto.ProblemUpdateRequest;
+import com.jhr.algoNote.dto.ReviewCreateRequest;
 import com.jhr.algoNote.repository.ProblemRepository;
+import com.jhr.algoNote.repository.ReviewRepository;
 import com.jhr.algoNote.repository.query.ProblemSearch;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -21,7 +33,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Transactional
 class ProblemServiceTest {
 
@@ -34,6 +46,15 @@ class ProblemServiceTest {
     @Autowired
     ProblemService problemService;
 
+    @Autowired
+    ReviewService reviewService;
+
+    @Autowired
+    ReviewRepository reviewRepository;
+
+    @Autowired
+    EntityManager em;
+
 
     @Test
     @DisplayName("문제 등록")
@@ -154,7 +175,7 @@ class ProblemServiceTest {
         createProblems(member);
         //when
         ProblemSearch problemSearch = ProblemSearch.builder()
-                .memberEmail(member.getEmail())
+                .memberId(member.getId())
                 .site("백준")
                 .build();
 
@@ -175,7 +196,7 @@ class ProblemServiceTest {
         createProblems(otherMember);
         //when
         ProblemSearch problemSearch = ProblemSearch.builder()
-                .memberEmail(member.getEmail())
+                .memberId(member.getId())
                 .keyword("채팅")
                 .build();
 
@@ -212,13 +233,13 @@ class ProblemServiceTest {
     // ==  테스트 작성에 도움을 주는 메서드 끝 == //
 
     @Test
-    void 이메일로_검색() {
+    void 회원id로_검색() {
         //given
         Member member = createMember("홍길동", "xxx@gmail.com");
         createProblems(member);
         //when
         ProblemSearch problemSearch = ProblemSearch.builder()
-                .memberEmail(member.getEmail())
+                .memberId(member.getId())
                 .build();
 
         List<Problem> result = problemService.search(problemSearch);
@@ -433,17 +454,17 @@ class ProblemServiceTest {
     }
 
     @Test
-    void 문제를_검색할_때_유저의_이메일은_null일_수_없다() {
+    void 문제를_검색할_때_유저의_id는_null일_수_없다() {
         //given
         Member member = createMember("홍길동", "xxx@gmail.com");
         createProblems(member);
         //when
         ProblemSearch problemSearch = ProblemSearch.builder()
-                .memberEmail(null)
+                .memberId(null)
                 .build();
         assertThrows(NullPointerException.class, () -> {
             problemService.search(problemSearch);
-        }, "로그인된 사용자의 이메일이 null일 경우 에러가 발생해야합니다.");
+        }, "로그인된 사용자의 id가 null일 경우 에러가 발생해야합니다.");
     }
 
     @Test
@@ -453,7 +474,7 @@ class ProblemServiceTest {
         createProblems(member);
         //when
         ProblemSearch problemSearch = ProblemSearch.builder()
-                .memberEmail(member.getEmail())
+                .memberId(member.getId())
                 .site("")
                 .build();
 
@@ -464,4 +485,106 @@ class ProblemServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("리뷰 50개가 달린 문제를 삭제해도 쿼리 수는 일정하다")
+    void delete_with_reviews() {
+        //given
+        Member member = createMember("홍길동", "xxx@gmail.com");
+        Long problemId = problemService.register(member.getId(), "문제", "내용", "dp,bfs", "백준", "");
+        for (int i = 0; i < 50; i++) {
+            reviewService.createReview(member.getId(), ReviewCreateRequest.builder()
+                    .problemId(problemId)
+                    .title("리뷰" + i)
+                    .contentText("리뷰 내용" + i)
+                    .tagText("dp")
+                    .build());
+        }
+        em.flush();
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        //when
+        problemService.delete(member.getId(), problemId);
+
+        //than
+        //작성자 확인 1 + 내용 id 조회 2 + DELETE 6 (문제태그, 리뷰태그, 리뷰, 문제, 문제내용, 리뷰내용)
+        assertEquals(9, statistics.getPrepareStatementCount());
+        assertNull(problemService.findOne(problemId));
+        assertEquals(0, reviewRepository.findByMemberId(member.getId()).size());
+    }
+
+    @Test
+    @DisplayName("여러 문제 일괄 삭제, 작성자가 아닌 문제가 있으면 삭제하지 않는다")
+    void deleteAll() {
+        //given
+        Member member = createMember("홍길동", "xxx@gmail.com");
+        Member otherMember = createMember("김영희", "xxx2@gmail.com");
+        createProblems(member);
+        Long otherProblemId = problemService.register(otherMember.getId(), "다른 사람 문제", "내용");
+        List<Long> ids = problemService.search(ProblemSearch.builder().memberId(member.getId()).build())
+                .stream().map(Problem::getId).collect(Collectors.toList());
+
+        //when
+        List<Long> withOther = new ArrayList<>(ids);
+        withOther.add(otherProblemId);
+        assertThrows(IllegalArgumentException.class,
+                () -> problemService.deleteAll(member.getId(), withOther));
+        int deleted = problemService.deleteAll(member.getId(), ids);
+
+        //than
+        assertEquals(ids.size(), deleted);
+        assertEquals(0, problemService.search(ProblemSearch.builder().memberId(member.getId()).build()).size());
+        assertNotNull(problemService.findOne(otherProblemId));
+    }
+
+    @Test
+    @DisplayName("검색 결과(1000건)는 읽기 전용으로 로딩되어 스냅샷을 만들지 않는다")
+    void search_read_only() {
+        //given
+        Member member = createMember("홍길동", "xxx@gmail.com");
+        for (int i = 0; i < 1000; i++) {
+            problemService.register(member.getId(), "문제" + i, "내용" + i);
+        }
+        em.flush();
+        em.clear();
+        ProblemSearch problemSearch = ProblemSearch.builder()
+                .memberId(member.getId())
+                .build();
+        Supplier<List<Problem>> readWrite = () -> em.createQuery(
+                        "select p from Problem p where p.member.id = :memberId", Problem.class)
+                .setParameter("memberId", member.getId())
+                .setMaxResults(1000)
+                .getResultList();
+
+        //when
+        long readOnlySnapshots = countSnapshotsAfterFlush(() -> problemService.search(problemSearch));
+        long readWriteSnapshots = countSnapshotsAfterFlush(readWrite);
+
+        //than
+        assertEquals(0, readOnlySnapshots);
+        assertEquals(1000, readWriteSnapshots);
+    }
+
+    /**
+     * 조회 + flush(dirty checking), 소요 시간은 ProblemQueryBenchmark (search, searchReadWrite) 로 측정한다
+     *
+     * @return 스냅샷을 가진 Problem 수
+     */
+    private long countSnapshotsAfterFlush(Supplier<List<Problem>> search) {
+        em.clear();
+        List<Problem> problems = search.get();
+        em.flush();
+        assertEquals(1000, problems.size());
+        PersistenceContext persistenceContext = em.unwrap(SessionImplementor.class)
+                .getPersistenceContextInternal();
+        long snapshots = Arrays.stream(persistenceContext.reentrantSafeEntityEntries())
+                .filter(e -> e.getKey() instanceof Problem)
+                .filter(e -> e.getValue().getLoadedState() != null)
+                .count();
+        em.clear();
+        return snapshots;
+    }
+
+}
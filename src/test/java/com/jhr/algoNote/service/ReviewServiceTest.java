@@ -10,8 +10,18 @@ import com.jhr.algoNote.domain.Role;
 import com.jhr.algoNote.dto.ProblemCreateRequest;
 import com.jhr.algoNote.dto.ReviewCreateRequest;
 import com.jhr.algoNote.repository.ReviewRepository;
+import com.jhr.algoNote.repository.query.ProblemField;
+import com.jhr.algoNote.repository.query.ProblemQueryDto;
+import com.jhr.algoNote.repository.query.ProblemQueryRepository;
+import com.jhr.algoNote.repository.query.ProblemSort;
+import com.jhr.algoNote.repository.query.ReviewQueryDto;
+import com.jhr.algoNote.repository.query.ScheduledProblemQueryDto;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import javax.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -34,6 +44,10 @@ class ReviewServiceTest {
     TagService tagService;
     @Autowired
     ReviewService reviewService;
+    @Autowired
+    ProblemQueryRepository problemQueryRepository;
+    @Autowired
+    EntityManager em;
 
     // == 테스트 작성에 도움을 주는 메서드 시작 ==
 
@@ -231,6 +245,178 @@ class ReviewServiceTest {
     }
 
 
+    @Test
+    @DisplayName("회원의 리뷰 목록을 최신순으로 페이지 단위로 조회")
+    void findReviewsByPage() {
+        //given
+        Member member = createMembers(1).get(0);
+        List<Problem> problemList = createProblems(member, 10);
+        List<Long> reviewIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ReviewCreateRequest reviewCreateRequest = ReviewCreateRequest.builder()
+                .problemId(problemList.get(i).getId())
+                .title("TITLE" + i)
+                .contentText("SAMPLE TEXT" + i)
+                .tagText("dp, 그리디")
+                .build();
+            reviewIds.add(0, reviewService.createReview(member.getId(), reviewCreateRequest));
+        }
+
+        //when
+        List<ReviewQueryDto> page1 = reviewService.findReviews(member.getId(), null, 4);
+        List<ReviewQueryDto> page2 = reviewService.findReviews(member.getId(),
+            page1.get(3).getReviewId(), 4);
+        List<ReviewQueryDto> page3 = reviewService.findReviews(member.getId(),
+            page2.get(3).getReviewId(), 4);
+
+        //than
+        List<Long> result = new ArrayList<>();
+        for (List<ReviewQueryDto> page : List.of(page1, page2, page3)) {
+            page.forEach(r -> result.add(r.getReviewId()));
+        }
+        assertEquals(reviewIds, result); //최신순, 중복/누락 없음
+        assertEquals(2, page3.size());
+        assertEquals(List.of("dp", "그리디"), page1.get(0).getTagNames());
+        assertEquals(problemList.get(9).getTitle(), page1.get(0).getProblemTitle());
+    }
+
+    @Test
+    @DisplayName("리뷰 목록 페이지 크기는 1 ~ 100 이어야 한다")
+    void findReviewsPageSize() {
+        assertThrows(IllegalArgumentException.class,
+            () -> reviewService.findReviews(1L, null, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> reviewService.findReviews(1L, null, ReviewService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("리뷰를 작성하면 복습 평가에 따라 다음 복습 일정이 정해진다")
+    void rescheduleOnReview() {
+        //given
+        Member member = createMembers(1).get(0);
+        Problem problem = createProblems(member, 1).get(0);
+
+        //when
+        for (int i = 0; i < 2; i++) {
+            reviewService.createReview(member.getId(), ReviewCreateRequest.builder()
+                .problemId(problem.getId())
+                .title("TITLE" + i)
+                .contentText("SAMPLE TEXT" + i)
+                .quality(5)
+                .build());
+            //일정은 UPDATE 쿼리로 반영되므로 영속성 컨텍스트를 비운다
+            em.flush();
+            em.clear();
+        }
+
+        //than
+        Problem found = problemService.findOne(problem.getId());
+        assertEquals(2, found.getSchedule().getRepetition());
+        assertEquals(6, found.getSchedule().getIntervalDays());
+        List<ScheduledProblemQueryDto> dueIn7Days = problemQueryRepository.findDueProblems(
+            member.getId(), LocalDateTime.now().plusDays(7), 100);
+        assertEquals(problem.getId(), dueIn7Days.get(dueIn7Days.size() - 1).getProblemId());
+        assertEquals(0, problemService.findDueProblems(member.getId()).size()); //오늘은 없음
+    }
+
+    @Test
+    @DisplayName("리뷰를 작성하면 문제의 리뷰 개수, 마지막 리뷰 시각이 갱신된다")
+    void reviewCountOnReview() {
+        //given
+        Member member = createMembers(1).get(0);
+        Problem problem = createProblems(member, 1).get(0);
+        Long version = problem.getVersion();
+        LocalDateTime before = LocalDateTime.now();
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            reviewService.createReview(member.getId(), ReviewCreateRequest.builder()
+                .problemId(problem.getId())
+                .title("TITLE" + i)
+                .contentText("SAMPLE TEXT" + i)
+                .build());
+            em.flush();
+            em.clear();
+        }
+
+        //than
+        Problem found = problemService.findOne(problem.getId());
+        assertEquals(3, found.getReviewCount());
+        Assertions.assertFalse(found.getLastReviewedAt().isBefore(before));
+        Assertions.assertTrue(found.getVersion() > version); //ETag 갱신
+        List<ProblemQueryDto> sorted = problemQueryRepository.findProblemPage(0, 10,
+            EnumSet.allOf(ProblemField.class), ProblemSort.REVIEW_COUNT, 3);
+        assertEquals(problem.getId(), sorted.get(0).getProblemId());
+        assertEquals(3, sorted.get(0).getReviewCount());
+    }
+
+    @Test
+    @DisplayName("리뷰를 작성해도 문제의 리뷰 목록은 로딩하지 않는다")
+    void createReviewWithoutLoadingProblemReviews() {
+        //given
+        Member member = createMembers(1).get(0);
+        Problem problem = createProblems(member, 1).get(0);
+        em.flush();
+        em.clear();
+
+        //when
+        Long reviewId = reviewService.createReview(member.getId(), ReviewCreateRequest.builder()
+            .problemId(problem.getId())
+            .title("TITLE")
+            .contentText("SAMPLE TEXT")
+            .build());
+
+        //than
+        Problem found = reviewService.findOne(reviewId).getProblem();
+        Assertions.assertFalse(Hibernate.isInitialized(found.getReviews()));
+        assertEquals(1, found.getReviewCount());
+    }
+
+    @Test
+    @DisplayName("리뷰를 삭제하면 문제의 리뷰 개수가 다시 계산된다")
+    void deleteReviews() {
+        //given
+        Member member = createMembers(1).get(0);
+        Problem problem = createProblems(member, 1).get(0);
+        List<Long> reviewIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            reviewIds.add(reviewService.createReview(member.getId(), ReviewCreateRequest.builder()
+                .problemId(problem.getId())
+                .title("TITLE" + i)
+                .contentText("SAMPLE TEXT" + i)
+                .tagText("dp")
+                .build()));
+        }
+
+        //when
+        int deleted = reviewService.deleteAll(member.getId(), reviewIds.subList(0, 2));
+
+        //than
+        assertEquals(2, deleted);
+        Problem found = problemService.findOne(problem.getId());
+        assertEquals(1, found.getReviewCount());
+        assertEquals(1, found.getReviews().size());
+        assertEquals(reviewIds.get(2), found.getReviews().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 리뷰를 삭제할 수 없다")
+    void deleteReviewsOfOtherMember() {
+        //given
+        List<Member> members = createMembers(2);
+        Problem problem = createProblems(members.get(0), 1).get(0);
+        Long reviewId = reviewService.createReview(members.get(0).getId(),
+            ReviewCreateRequest.builder()
+                .problemId(problem.getId())
+                .title("TITLE")
+                .contentText("SAMPLE TEXT")
+                .build());
+
+        //when, than
+        assertThrows(IllegalArgumentException.class,
+            () -> reviewService.delete(members.get(1).getId(), reviewId));
+    }
+
     @Test
     @DisplayName("리뷰 ID로 단건 조회")
     void findReview() {
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.jhr.algoNote.domain.tag.Tag;
 import com.jhr.algoNote.exception.RedundantTagNameException;
 import com.jhr.algoNote.repository.TagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.lang.reflect.Method;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +30,9 @@ class TagServiceTest {
     @Autowired
     ProblemService problemService;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @Test
     void 태그_등록() throws Exception {
         // given
@@ -41,6 +46,25 @@ class TagServiceTest {
         assertEquals(tag.getName(), findTag.getName());
     }
 
+    @Test
+    void 태그_조회_메트릭() throws Exception {
+        // given
+        tagService.saveTag(Tag.builder().name("기존태그").build());
+        double created = resolvedCount("created");
+        double reused = resolvedCount("reused");
+
+        // when
+        tagService.getTagList(new String[]{"기존태그", "신규태그1", "신규태그2"});
+
+        // then
+        assertEquals(created + 2, resolvedCount("created"));
+        assertEquals(reused + 1, resolvedCount("reused"));
+    }
+
+    private double resolvedCount(String result) {
+        return meterRegistry.get("algonote.tags.resolved").tag("result", result).counter().count();
+    }
+
     @Test
     void 태그_이름_중복() throws Exception {
         // given
@@ -147,7 +171,7 @@ class TagServiceTest {
         // '-' '_'는 포함 가능
         String st = "!\"#$%&(){}@`*:+;.<>,^~|'[]";
 
-        TagService tagService = new TagService(tagRepository);
+        TagService tagService = new TagService(tagRepository, new SimpleMeterRegistry());
         Method method = tagService.getClass().getDeclaredMethod("stringReplace", String.class);
         method.setAccessible(true);
         // when
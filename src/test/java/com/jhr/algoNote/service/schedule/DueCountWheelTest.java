@@ -0,0 +1,108 @@
+package com.jhr.algoNote.service.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.jhr.algoNote.repository.query.ProblemQueryRepository;
+import com.jhr.algoNote.repository.query.ScheduledProblemQueryDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class DueCountWheelTest {
+
+    final LocalDateTime now = LocalDateTime.of(2021, 12, 1, 9, 0, 30);
+    ProblemQueryRepository problemQueryRepository = Mockito.mock(ProblemQueryRepository.class);
+    // DB 에 저장된 복습 일정
+    List<ScheduledProblemQueryDto> scheduled = new ArrayList<>();
+    DueCountWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new DueCountWheel(problemQueryRepository);
+        when(problemQueryRepository.countDueProblemsByMember(any())).thenReturn(Map.of(1L, 2L));
+        when(problemQueryRepository.findScheduledBetween(any(), any())).thenAnswer(invocation -> {
+            LocalDateTime from = invocation.getArgument(0);
+            LocalDateTime to = invocation.getArgument(1);
+            return scheduled.stream()
+                .filter(p -> !p.getNextReviewAt().isBefore(from) && p.getNextReviewAt().isBefore(to))
+                .collect(Collectors.toList());
+        });
+    }
+
+    private void schedule(Long problemId, Long memberId, LocalDateTime dueAt) {
+        scheduled.add(new ScheduledProblemQueryDto(problemId, memberId, "문제", null, dueAt));
+    }
+
+    @Test
+    @DisplayName("시작 전에는 null, 시작하면 DB 의 개수로 초기화된다")
+    void init() {
+        assertNull(wheel.getDueCount(1L));
+
+        wheel.init(now);
+
+        assertEquals(2L, wheel.getDueCount(1L));
+        assertEquals(0L, wheel.getDueCount(2L));
+    }
+
+    @Test
+    @DisplayName("복습 시각이 지나면 개수가 늘어난다")
+    void advance() {
+        //given
+        schedule(10L, 1L, now.plusMinutes(5));
+        schedule(11L, 1L, now.plusHours(3));
+        wheel.init(now);
+
+        //when
+        wheel.advance(now.plusMinutes(4));
+        Long before = wheel.getDueCount(1L);
+        wheel.advance(now.plusMinutes(5));
+        Long after = wheel.getDueCount(1L);
+        wheel.advance(now.plusHours(5));
+
+        //than
+        assertEquals(2L, before);
+        assertEquals(3L, after);
+        assertEquals(4L, wheel.getDueCount(1L));
+    }
+
+    @Test
+    @DisplayName("복습하면 일정이 미뤄지고 개수가 줄어든다")
+    void reschedule() {
+        //given
+        schedule(10L, 1L, now.plusMinutes(5));
+        wheel.init(now);
+
+        //when (복습 예정이던 문제를 미리 복습, 이미 지난 문제를 복습)
+        wheel.onScheduled(new ProblemScheduledEvent(10L, 1L, now.plusMinutes(5), now.plusDays(6)));
+        wheel.onScheduled(new ProblemScheduledEvent(9L, 1L, now.minusDays(1), now.plusMinutes(1)));
+        wheel.advance(now.plusMinutes(10));
+
+        //than
+        assertEquals(2L, wheel.getDueCount(1L));
+    }
+
+    @Test
+    @DisplayName("하루 이후의 일정은 시간이 지나면서 DB 에서 구간 단위로 읽는다")
+    void fillHorizon() {
+        //given
+        wheel.init(now);
+        LocalDateTime later = now.plusDays(1).plusMinutes(10);
+        schedule(20L, 3L, later);
+
+        //when
+        wheel.advance(now.plusMinutes(30)); // 24시간 30분 앞까지 읽음
+        wheel.advance(later);
+
+        //than
+        assertEquals(1L, wheel.getDueCount(3L));
+    }
+}
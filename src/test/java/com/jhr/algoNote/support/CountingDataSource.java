@@ -0,0 +1,85 @@
+package com.jhr.algoNote.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+/**
+ * 실행한 SQL 을 QueryCounter 에 기록하는 DataSource 프록시
+ * <p>
+ * Connection 이 만든 Statement 를 감싸 execute* 호출마다 한 문장으로 센다. (executeBatch 도 1번)
+ */
+public final class CountingDataSource {
+
+    private CountingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Connection) {
+                return wrapConnection((Connection) result);
+            }
+            return result;
+        });
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            String name = method.getName();
+            if (result instanceof Statement && (name.startsWith("prepare") || name.equals("createStatement"))) {
+                String sql = name.equals("createStatement") ? null : (String) args[0];
+                return wrapStatement(method.getReturnType(), (Statement) result, sql);
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Statement wrapStatement(Class<?> type, Statement statement, String preparedSql) {
+        Class<Statement> statementType = (Class<Statement>) (CallableStatement.class.isAssignableFrom(type)
+            ? CallableStatement.class
+            : PreparedStatement.class.isAssignableFrom(type) ? PreparedStatement.class : Statement.class);
+        return proxy(statementType, statement, (target, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                //Statement.execute(sql) 는 인자, PreparedStatement 는 prepare 시점의 SQL
+                boolean hasSql = args != null && args.length > 0 && args[0] instanceof String;
+                QueryCounter.record(hasSql ? (String) args[0] : preparedSql);
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            if (method.getName().equals("unwrap") || method.getName().equals("isWrapperFor")) {
+                return invoke(target, method, args);
+            }
+            return handler.handle(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+            new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
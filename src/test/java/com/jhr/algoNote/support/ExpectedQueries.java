@@ -0,0 +1,21 @@
+package com.jhr.algoNote.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * 테스트 메서드에서 실행할 수 있는 SQL 문장 수의 상한
+ * <p>
+ * 데이터 준비 쿼리는 QueryCounter.clear() 로 제외한다. (ProblemFixture 는 저장 후 자동으로 비움) DataSource 는
+ * QueryCountTest 로 감싸야 한다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface ExpectedQueries {
+
+    int max();
+}
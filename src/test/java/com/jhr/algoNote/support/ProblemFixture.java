@@ -0,0 +1,72 @@
+package com.jhr.algoNote.support;
+
+import com.jhr.algoNote.domain.Member;
+import com.jhr.algoNote.domain.Role;
+import com.jhr.algoNote.dto.ReviewCreateRequest;
+import com.jhr.algoNote.service.MemberService;
+import com.jhr.algoNote.service.ProblemService;
+import com.jhr.algoNote.service.ReviewService;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+
+/**
+ * 쿼리 수 검증용 데이터 (문제마다 태그 3개, 리뷰마다 태그 2개)
+ * <p>
+ * 저장 후 영속성 컨텍스트를 비우고(요청에서 다시 로딩) QueryCounter 도 비운다.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class ProblemFixture {
+
+    private static final String[] TAGS = {"dp", "greedy", "graph", "bfs", "dfs", "구현", "수학"};
+
+    private final MemberService memberService;
+    private final ProblemService problemService;
+    private final ReviewService reviewService;
+    private final EntityManager em;
+
+    public Member createMember() {
+        return createMember("fixture@gmail.com");
+    }
+
+    public Member createMember(String email) {
+        Member member = Member.builder()
+            .name("홍길동")
+            .email(email)
+            .role(Role.USER)
+            .build();
+        memberService.join(member);
+        return member;
+    }
+
+    /**
+     * 문제 problems 개, 문제마다 리뷰 reviewsPerProblem 개
+     *
+     * @return 문제 id 목록
+     */
+    public List<Long> createProblems(Member member, int problems, int reviewsPerProblem) {
+        List<Long> problemIds = new ArrayList<>();
+        for (int i = 0; i < problems; i++) {
+            String tagText = TAGS[i % TAGS.length] + " " + TAGS[(i + 1) % TAGS.length] + " "
+                + TAGS[(i + 2) % TAGS.length];
+            Long problemId = problemService.register(member.getId(), "문제 " + i, "## 문제 " + i + "\n내용", tagText);
+            for (int j = 0; j < reviewsPerProblem; j++) {
+                reviewService.createReview(member.getId(), ReviewCreateRequest.builder()
+                    .title("리뷰 " + j)
+                    .contentText("풀이 " + j)
+                    .tagText("review" + j % 3 + " " + TAGS[j % TAGS.length])
+                    .problemId(problemId)
+                    .quality(4)
+                    .build());
+            }
+            problemIds.add(problemId);
+        }
+        em.flush();
+        em.clear();
+        QueryCounter.clear();
+        return problemIds;
+    }
+}
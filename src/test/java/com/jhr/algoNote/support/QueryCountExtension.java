@@ -0,0 +1,37 @@
+package com.jhr.algoNote.support;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * 테스트 메서드 실행 중의 SQL 문장 수를 세고 @ExpectedQueries 의 상한을 넘으면 실패
+ */
+public class QueryCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCounter.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        List<String> statements = QueryCounter.stop();
+        if (context.getExecutionException().isPresent()) {
+            return; //이미 실패한 테스트
+        }
+
+        Optional<ExpectedQueries> expected = AnnotationSupport
+            .findAnnotation(context.getRequiredTestMethod(), ExpectedQueries.class)
+            .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), ExpectedQueries.class));
+        if (expected.isPresent() && statements.size() > expected.get().max()) {
+            throw new AssertionFailedError(String.format("SQL 문장 수 초과 : 최대 %d, 실행 %d%n%s",
+                expected.get().max(), statements.size(), String.join(System.lineSeparator(), statements)),
+                expected.get().max(), statements.size());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.jhr.algoNote.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 실제 DB 로 MockMvc 요청을 실행하고 SQL 문장 수를 검증하는 테스트 (@ExpectedQueries 와 함께 사용)
+ * <p>
+ * 지연 로딩 배치 크기는 운영 설정(application.yml)과 같게 맞춘다. 테스트 데이터는 트랜잭션 롤백으로 지운다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.default_batch_fetch_size=100")
+@AutoConfigureMockMvc
+@Import({QueryCountConfig.class, ProblemFixture.class})
+@Transactional
+public @interface QueryCountTest {
+
+}
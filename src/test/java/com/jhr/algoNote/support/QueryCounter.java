@@ -0,0 +1,58 @@
+package com.jhr.algoNote.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문장 수 (CountingDataSource 가 기록)
+ * <p>
+ * MockMvc 요청은 테스트 스레드에서 실행되므로 요청 처리, 뷰 렌더링 중의 지연 로딩까지 모두 센다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 기록 시작 (QueryCountExtension 이 테스트 메서드 실행 직전에 호출)
+     */
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    /**
+     * 지금까지 기록한 문장을 비움, given 단계의 데이터 준비 쿼리를 제외할 때 사용
+     */
+    public static void clear() {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.clear();
+        }
+    }
+
+    /**
+     * 기록 종료
+     *
+     * @return 기록한 문장, 시작하지 않았으면 빈 목록
+     */
+    public static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements == null ? Collections.emptyList() : statements;
+    }
+
+    public static int count() {
+        List<String> statements = STATEMENTS.get();
+        return statements == null ? 0 : statements.size();
+    }
+
+    static void record(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+    }
+}